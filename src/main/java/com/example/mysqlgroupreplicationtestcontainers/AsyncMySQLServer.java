@@ -0,0 +1,184 @@
+package com.example.mysqlgroupreplicationtestcontainers;
+
+import com.example.mysqlgroupreplicationtestcontainers.groupmember.GroupMember;
+import com.example.mysqlgroupreplicationtestcontainers.gtid.GtidSet;
+import com.example.mysqlgroupreplicationtestcontainers.stats.ApplierWorkerStatus;
+import com.example.mysqlgroupreplicationtestcontainers.stats.ConnectionStatus;
+import com.example.mysqlgroupreplicationtestcontainers.stats.MemberStats;
+import lombok.Getter;
+
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Non-blocking view of a {@link MySQLServer}. Every call runs the blocking JDBC work on its own virtual thread and
+ * returns a future completed with the result, or exceptionally with the {@link SQLException} it threw, so the same
+ * operation on every member of a group costs one round trip of wall-clock time instead of one per member.
+ */
+public class AsyncMySQLServer {
+    private static final ExecutorService EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Getter
+    private final MySQLServer server;
+
+    public AsyncMySQLServer(MySQLServer server) {
+        this.server = server;
+    }
+
+    public <R> CompletableFuture<R> submit(SqlFunction<MySQLServer, R> operation) {
+        CompletableFuture<R> future = new CompletableFuture<>();
+        EXECUTOR.execute(() -> {
+            try {
+                future.complete(operation.apply(server));
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    public CompletableFuture<String> getServerId() {
+        return submit(MySQLServer::getServerId);
+    }
+
+    public CompletableFuture<Void> createDatabase(String name) {
+        return submit(server -> {
+            server.createDatabase(name);
+            return null;
+        });
+    }
+
+    public CompletableFuture<Set<String>> showDatabases() {
+        return submit(MySQLServer::showDatabases);
+    }
+
+    public CompletableFuture<Void> installGroupReplicationPlugin() {
+        return submit(server -> {
+            server.installGroupReplicationPlugin();
+            return null;
+        });
+    }
+
+    public CompletableFuture<Void> resetMaster() {
+        return submit(server -> {
+            server.resetMaster();
+            return null;
+        });
+    }
+
+    public CompletableFuture<String> getGlobalGtidExecuted() {
+        return submit(MySQLServer::getGlobalGtidExecuted);
+    }
+
+    public CompletableFuture<GtidSet> getGtidExecuted() {
+        return submit(MySQLServer::getGtidExecuted);
+    }
+
+    public CompletableFuture<Void> startGroupReplication(boolean bootstrap) {
+        return submit(server -> {
+            server.startGroupReplication(bootstrap);
+            return null;
+        });
+    }
+
+    public CompletableFuture<Void> stopGroupReplication() {
+        return submit(server -> {
+            server.stopGroupReplication();
+            return null;
+        });
+    }
+
+    public CompletableFuture<Void> runSetupScript(SetupScript script) {
+        return submit(server -> {
+            server.runSetupScript(script);
+            return null;
+        });
+    }
+
+    public CompletableFuture<Map<String, String>> showPlugins() {
+        return submit(MySQLServer::showPlugins);
+    }
+
+    public CompletableFuture<Map<String, GroupMember>> getPerformanceSchemaReplicationGroupMembers() {
+        return submit(MySQLServer::getPerformanceSchemaReplicationGroupMembers);
+    }
+
+    public CompletableFuture<MemberStats> getLocalMemberStats() {
+        return submit(MySQLServer::getLocalMemberStats);
+    }
+
+    public CompletableFuture<ConnectionStatus> getConnectionStatus(String channelName) {
+        return submit(server -> server.getConnectionStatus(channelName));
+    }
+
+    public CompletableFuture<List<ApplierWorkerStatus>> getApplierWorkerStatus(String channelName) {
+        return submit(server -> server.getApplierWorkerStatus(channelName));
+    }
+
+    public CompletableFuture<String> getGlobalVariable(String name) {
+        return submit(server -> server.getGlobalVariable(name));
+    }
+
+    /**
+     * Runs the operation on every server concurrently. The future completes once all of them have finished, with the
+     * results keyed by host name in the order of {@code servers}, or exceptionally with the first failure.
+     *
+     * <pre>{@code
+     * Map<String, GtidSet> gtids = AsyncMySQLServer.await(allMembers(nodes, MySQLServer::getGtidExecuted));
+     * }</pre>
+     */
+    public static <R> CompletableFuture<Map<String, R>> allMembers(List<MySQLServer> servers,
+                                                                   SqlFunction<MySQLServer, R> operation) {
+        List<CompletableFuture<R>> futures = servers.stream()
+                .map(server -> server.async().submit(operation))
+                .toList();
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).thenApply(done -> {
+            Map<String, R> results = new LinkedHashMap<>();
+            for (int i = 0; i < servers.size(); i++) {
+                results.put(servers.get(i).getHostName(), futures.get(i).join());
+            }
+            return results;
+        });
+    }
+
+    /**
+     * Waits for the future and rethrows its failure as thrown by the operation: {@link SQLException}s, runtime
+     * exceptions and errors (such as assertion failures) unchanged, anything else wrapped in an SQLException. The
+     * interrupt flag is restored when either the waiting thread or the task was interrupted.
+     */
+    public static <R> R await(Future<R> future) throws SQLException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for servers", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            while (cause instanceof CompletionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof SQLException sqlException) {
+                throw sqlException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            if (cause instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            throw new SQLException(cause);
+        }
+    }
+}
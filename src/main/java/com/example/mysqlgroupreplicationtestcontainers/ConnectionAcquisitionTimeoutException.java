@@ -0,0 +1,25 @@
+package com.example.mysqlgroupreplicationtestcontainers;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Every connection of the pool stayed in use for the whole connection timeout. Usually a sign that the pool is too
+ * small for the number of concurrent callers; see {@link ConnectionPoolSettings#maximumPoolSize()}.
+ */
+@Getter
+public class ConnectionAcquisitionTimeoutException extends ConnectionPoolException {
+    private final Duration timeout;
+    private final int active;
+    private final int waiting;
+
+    public ConnectionAcquisitionTimeoutException(String poolName, Duration timeout, int active, int waiting,
+                                                 Throwable cause) {
+        super(String.format("No connection from pool %s within %d ms (%d active, %d waiting)", poolName,
+                timeout.toMillis(), active, waiting), cause);
+        this.timeout = timeout;
+        this.active = active;
+        this.waiting = waiting;
+    }
+}
@@ -2,26 +2,118 @@ package com.example.mysqlgroupreplicationtestcontainers;
 
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.Getter;
 
 import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
 
-public class ConnectionPool {
+/**
+ * HikariCP pool of connections to one server. Once bound to a {@link MeterRegistry}, Hikari publishes its
+ * {@code hikaricp.connections.*} meters (acquire time, active, idle and pending counts, timeouts) tagged with the
+ * pool name. A pool can be bound to one registry only.
+ */
+public class ConnectionPool implements MeterBinder, AutoCloseable {
     private final HikariDataSource ds;
+    private final String url;
+    private final String username;
+    private final String password;
+    @Getter
+    private final ConnectionPoolSettings settings;
+    private MeterRegistry registry;
 
     public ConnectionPool(String url, String username, String password) {
+        this(null, url, username, password, ConnectionPoolSettings.defaults());
+    }
+
+    public ConnectionPool(String poolName, String url, String username, String password,
+                          ConnectionPoolSettings settings) {
         HikariConfig config = new HikariConfig();
-        config.setJdbcUrl(url);
+        if (poolName != null) {
+            config.setPoolName(poolName);
+        }
+        config.setJdbcUrl(settings.applyTo(url));
         config.setUsername(username);
         config.setPassword(password);
-        config.setMaximumPoolSize(10);
+        config.setMaximumPoolSize(settings.maximumPoolSize());
+        config.setMinimumIdle(settings.minimumIdle());
+        config.setConnectionTimeout(settings.connectionTimeout().toMillis());
         this.ds = new HikariDataSource(config);
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.settings = settings;
+    }
+
+    /**
+     * Opens a new pool to the same server with other settings. The caller closes it.
+     */
+    public ConnectionPool withSettings(ConnectionPoolSettings settings) {
+        return new ConnectionPool(ds.getPoolName(), url, username, password, settings);
     }
 
+    /**
+     * @throws ConnectionAcquisitionTimeoutException if every connection stayed in use for the connection timeout
+     * @throws ConnectionPoolException if the pool had room but could not open a connection to the server
+     */
     public Connection getConnection() {
         try {
             return ds.getConnection();
-        } catch (Exception e) {
-            throw new RuntimeException(e);
+        } catch (SQLTransientConnectionException e) {
+            // Hikari attaches its last failure to open a connection to every timeout, however old that failure is, so
+            // the pool's state decides: with every connection in use callers simply outnumber connections.
+            HikariPoolMXBean pool = ds.getHikariPoolMXBean();
+            int active = pool == null ? 0 : pool.getActiveConnections();
+            if (active < settings.maximumPoolSize() && (isConnectionFailure(e) || isAuthorizationFailure(e))) {
+                throw new ConnectionPoolException(String.format("Could not connect pool %s (SQLState %s)",
+                        ds.getPoolName(), e.getSQLState()), e);
+            }
+            throw new ConnectionAcquisitionTimeoutException(ds.getPoolName(), settings.connectionTimeout(), active,
+                    pool == null ? 0 : pool.getThreadsAwaitingConnection(), e);
+        } catch (SQLException e) {
+            throw new ConnectionPoolException("Could not get a connection from pool " + ds.getPoolName(), e);
         }
     }
+
+    /**
+     * SQLState class 08, connection exception: the server could not be reached or the connection to it broke, as
+     * Connector/J reports a communications link failure. Retrying on another connection may succeed.
+     */
+    public static boolean isConnectionFailure(SQLException e) {
+        String sqlState = e.getSQLState();
+        return sqlState != null && sqlState.startsWith("08");
+    }
+
+    /**
+     * SQLState class 28, invalid authorization.
+     */
+    private static boolean isAuthorizationFailure(SQLException e) {
+        String sqlState = e.getSQLState();
+        return sqlState != null && sqlState.startsWith("28");
+    }
+
+    /**
+     * Publishes the pool's meters to the registry. Binding again to the same registry does nothing; Hikari cannot
+     * move a running pool's meters to another registry, so binding to a different one fails.
+     */
+    @Override
+    public synchronized void bindTo(MeterRegistry registry) {
+        if (this.registry == registry) {
+            return;
+        }
+        if (this.registry != null) {
+            throw new IllegalStateException("Pool " + ds.getPoolName() + " is already bound to another registry");
+        }
+        ds.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+        this.registry = registry;
+    }
+
+    @Override
+    public void close() {
+        ds.close();
+    }
 }
@@ -0,0 +1,11 @@
+package com.example.mysqlgroupreplicationtestcontainers;
+
+/**
+ * A connection could not be obtained from a {@link ConnectionPool}.
+ */
+public class ConnectionPoolException extends RuntimeException {
+
+    public ConnectionPoolException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
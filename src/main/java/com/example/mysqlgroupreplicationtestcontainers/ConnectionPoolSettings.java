@@ -0,0 +1,110 @@
+package com.example.mysqlgroupreplicationtestcontainers;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.support.ResourcePropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Sizing and statement-caching settings of every {@link ConnectionPool}, bound from {@code gr.pool.*} properties.
+ * The prepared statement and session tracking flags are Connector/J URL parameters and are only added to
+ * {@code jdbc:mysql:} URLs. With {@code trackSessionGtids} every connection has the server return the GTID of each
+ * transaction it commits, which {@link ReadYourWritesSession} relies on. It is off by default, since it adds to every
+ * OK packet, and is only meant for the pools a session writes through.
+ */
+@ConfigurationProperties(prefix = ConnectionPoolSettings.PREFIX)
+public record ConnectionPoolSettings(@DefaultValue("10") int maximumPoolSize,
+                                     @DefaultValue("10") int minimumIdle,
+                                     @DefaultValue("30s") Duration connectionTimeout,
+                                     @DefaultValue PreparedStatements preparedStatements,
+                                     @DefaultValue("false") boolean trackSessionGtids) {
+
+    public static final String PREFIX = "gr.pool";
+
+    /**
+     * Connector/J statement caching: {@code cachePrepStmts}, {@code prepStmtCacheSize},
+     * {@code prepStmtCacheSqlLimit} and {@code useServerPrepStmts}.
+     */
+    public record PreparedStatements(@DefaultValue("true") boolean cache,
+                                     @DefaultValue("250") int cacheSize,
+                                     @DefaultValue("2048") int cacheSqlLimit,
+                                     @DefaultValue("false") boolean serverSide) {
+    }
+
+    public ConnectionPoolSettings {
+        if (maximumPoolSize < 1 || minimumIdle < 0 || minimumIdle > maximumPoolSize) {
+            throw new IllegalArgumentException(String.format(
+                    "Need 0 <= minimumIdle <= maximumPoolSize and maximumPoolSize >= 1, got %d and %d",
+                    minimumIdle, maximumPoolSize));
+        }
+    }
+
+    public static ConnectionPoolSettings defaults() {
+        return new ConnectionPoolSettings(10, 10, Duration.ofSeconds(30),
+                new PreparedStatements(true, 250, 2048, false), false);
+    }
+
+    /**
+     * Binds {@code gr.pool.*} from system properties, environment variables and {@code application.properties} on
+     * the classpath, in that order of precedence, for code that runs outside a Spring context.
+     */
+    public static ConnectionPoolSettings fromApplicationProperties() {
+        StandardEnvironment environment = new StandardEnvironment();
+        try {
+            environment.getPropertySources().addLast(new ResourcePropertySource("classpath:application.properties"));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return Binder.get(environment).bind(PREFIX, ConnectionPoolSettings.class)
+                .orElseGet(ConnectionPoolSettings::defaults);
+    }
+
+    public ConnectionPoolSettings withPoolSize(int minimumIdle, int maximumPoolSize) {
+        return new ConnectionPoolSettings(maximumPoolSize, minimumIdle, connectionTimeout, preparedStatements,
+                trackSessionGtids);
+    }
+
+    public ConnectionPoolSettings withConnectionTimeout(Duration connectionTimeout) {
+        return new ConnectionPoolSettings(maximumPoolSize, minimumIdle, connectionTimeout, preparedStatements,
+                trackSessionGtids);
+    }
+
+    public ConnectionPoolSettings withTrackSessionGtids(boolean trackSessionGtids) {
+        return new ConnectionPoolSettings(maximumPoolSize, minimumIdle, connectionTimeout, preparedStatements,
+                trackSessionGtids);
+    }
+
+    /**
+     * The URL with the prepared statement and session tracking flags appended, unless it is not a MySQL URL.
+     */
+    public String applyTo(String jdbcUrl) {
+        if (!jdbcUrl.startsWith("jdbc:mysql:")) {
+            return jdbcUrl;
+        }
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("cachePrepStmts", preparedStatements.cache());
+        parameters.put("prepStmtCacheSize", preparedStatements.cacheSize());
+        parameters.put("prepStmtCacheSqlLimit", preparedStatements.cacheSqlLimit());
+        parameters.put("useServerPrepStmts", preparedStatements.serverSide());
+        if (trackSessionGtids) {
+            parameters.put("trackSessionState", true);
+            // URL-encoded "session_track_gtids=OWN_GTID", set on every new connection.
+            parameters.put("sessionVariables", "session_track_gtids%3DOWN_GTID");
+        }
+
+        StringBuilder url = new StringBuilder(jdbcUrl);
+        char separator = jdbcUrl.indexOf('?') < 0 ? '?' : '&';
+        for (Map.Entry<String, Object> parameter : parameters.entrySet()) {
+            url.append(separator).append(parameter.getKey()).append('=').append(parameter.getValue());
+            separator = '&';
+        }
+        return url.toString();
+    }
+}
@@ -0,0 +1,221 @@
+package com.example.mysqlgroupreplicationtestcontainers;
+
+import com.example.mysqlgroupreplicationtestcontainers.groupmember.GroupMember;
+import com.example.mysqlgroupreplicationtestcontainers.groupmember.MembershipMonitor;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.io.PrintWriter;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+/**
+ * Routes connections over the pools of the group members: {@link #getConnection()} and
+ * {@link #getWriteConnection()} go to the PRIMARY, {@link #getReadConnection()} is balanced across the ONLINE
+ * SECONDARY members. Roles come from a {@link MembershipMonitor}, and a write rejected with the super-read-only
+ * error or failing to reach the primary triggers an immediate refresh so a new primary is picked up without waiting
+ * for the next poll.
+ */
+@Slf4j
+public class GroupReplicationDataSource implements DataSource, AutoCloseable {
+    static final int ER_OPTION_PREVENTS_STATEMENT = 1290;
+
+    private record Routes(List<MySQLServer> primaries, List<MySQLServer> secondaries) {
+    }
+
+    /**
+     * A read connection with the member it was taken from and whether that member was routed to as a SECONDARY.
+     */
+    public record RoutedConnection(MySQLServer member, Connection connection, boolean secondary)
+            implements AutoCloseable {
+
+        @Override
+        public void close() throws SQLException {
+            connection.close();
+        }
+    }
+
+    private final Map<String, MySQLServer> serversByHost = new HashMap<>();
+    private final MembershipMonitor monitor;
+    private final AtomicInteger nextReader = new AtomicInteger();
+    private volatile Routes routes = new Routes(List.of(), List.of());
+
+    public GroupReplicationDataSource(List<MySQLServer> servers, Duration refreshInterval) {
+        for (MySQLServer server : servers) {
+            serversByHost.put(server.getHostName(), server);
+        }
+        this.monitor = new MembershipMonitor(servers, refreshInterval);
+        this.monitor.addListener(event -> updateRoutes(monitor.getSnapshot()));
+        this.monitor.start();
+    }
+
+    public MembershipMonitor getMonitor() {
+        return monitor;
+    }
+
+    /**
+     * Returns the member writes are currently routed to, refreshing the view if no primary is known yet.
+     */
+    public MySQLServer getPrimary() throws SQLException {
+        List<MySQLServer> primaries = routes.primaries();
+        if (primaries.isEmpty()) {
+            refreshRoutes();
+            primaries = routes.primaries();
+        }
+        if (primaries.isEmpty()) {
+            throw new SQLException("No ONLINE PRIMARY member in the group");
+        }
+        return primaries.get(0);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return getWriteConnection();
+    }
+
+    public Connection getWriteConnection() throws SQLException {
+        return getPrimary().getConnection();
+    }
+
+    /**
+     * Returns a connection to the next ONLINE secondary in round-robin order, falling back to the primary when no
+     * secondary is available or none of them hands out a connection.
+     */
+    public Connection getReadConnection() throws SQLException {
+        return getRoutedReadConnection().connection();
+    }
+
+    /**
+     * Like {@link #getReadConnection()}, but tells which member serves the connection.
+     */
+    public RoutedConnection getRoutedReadConnection() throws SQLException {
+        Routes current = routes;
+        boolean secondary = !current.secondaries().isEmpty();
+        List<MySQLServer> readers = secondary ? current.secondaries() : current.primaries();
+        int start = Math.floorMod(nextReader.getAndIncrement(), Math.max(1, readers.size()));
+        for (int i = 0; i < readers.size(); i++) {
+            MySQLServer reader = readers.get((start + i) % readers.size());
+            try {
+                return new RoutedConnection(reader, reader.getConnection(), secondary);
+            } catch (RuntimeException e) {
+                log.warn("Could not get a read connection from {}: {}", reader.getHostName(), e.getMessage());
+            }
+        }
+        MySQLServer primary = getPrimary();
+        return new RoutedConnection(primary, primary.getConnection(), false);
+    }
+
+    /**
+     * Runs {@code work} on a write connection. When the member turned out to be read-only because the primary moved,
+     * or the connection to it failed because it left the group, the routes are refreshed and the work is retried once
+     * on the new primary.
+     */
+    public <R> R write(SqlFunction<Connection, R> work) throws SQLException {
+        try (Connection connection = getWriteConnection()) {
+            return work.apply(connection);
+        } catch (SQLException e) {
+            if (e.getErrorCode() == ER_OPTION_PREVENTS_STATEMENT) {
+                log.info("Write rejected by a read-only member, refreshing primary: {}", e.getMessage());
+            } else if (ConnectionPool.isConnectionFailure(e)) {
+                log.info("Write connection to the primary failed, refreshing primary: {}", e.getMessage());
+            } else {
+                throw e;
+            }
+        } catch (ConnectionPoolException e) {
+            log.info("No write connection from the primary, refreshing primary: {}", e.getMessage());
+        }
+        refreshRoutes();
+        try (Connection connection = getWriteConnection()) {
+            return work.apply(connection);
+        }
+    }
+
+    public <R> R read(SqlFunction<Connection, R> work) throws SQLException {
+        try (Connection connection = getReadConnection()) {
+            return work.apply(connection);
+        }
+    }
+
+    public void refreshRoutes() throws SQLException {
+        updateRoutes(monitor.refresh());
+    }
+
+    private synchronized void updateRoutes(Map<String, GroupMember> view) {
+        List<MySQLServer> primaries = new ArrayList<>();
+        List<MySQLServer> secondaries = new ArrayList<>();
+        for (GroupMember member : view.values()) {
+            MySQLServer server = serversByHost.get(member.host());
+            if (server == null || !member.isOnline()) {
+                continue;
+            }
+            if (member.isPrimary()) {
+                primaries.add(server);
+            } else {
+                secondaries.add(server);
+            }
+        }
+        // Multi-primary groups stick to one writer so this client's own writes never conflict with each other.
+        primaries.sort(Comparator.comparing(MySQLServer::getHostName));
+        secondaries.sort(Comparator.comparing(MySQLServer::getHostName));
+        Routes previous = routes;
+        routes = new Routes(List.copyOf(primaries), List.copyOf(secondaries));
+        if (!previous.primaries().equals(routes.primaries())) {
+            log.info("Write route changed to {}", primaries.stream().map(MySQLServer::getHostName).toList());
+        }
+    }
+
+    @Override
+    public void close() {
+        monitor.close();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Credentials are configured per member pool");
+    }
+
+    @Override
+    public PrintWriter getLogWriter() {
+        return null;
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) {
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) {
+    }
+
+    @Override
+    public int getLoginTimeout() {
+        return 0;
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        throw new SQLException("Not a wrapper for " + iface.getName());
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) {
+        return iface.isInstance(this);
+    }
+}
@@ -1,6 +1,11 @@
 package com.example.mysqlgroupreplicationtestcontainers;
 
 import com.example.mysqlgroupreplicationtestcontainers.groupmember.GroupMember;
+import com.example.mysqlgroupreplicationtestcontainers.groupmember.GroupMemberMapper;
+import com.example.mysqlgroupreplicationtestcontainers.gtid.GtidSet;
+import com.example.mysqlgroupreplicationtestcontainers.stats.ApplierWorkerStatus;
+import com.example.mysqlgroupreplicationtestcontainers.stats.ConnectionStatus;
+import com.example.mysqlgroupreplicationtestcontainers.stats.MemberStats;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
@@ -9,6 +14,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -18,10 +24,31 @@ import java.util.Set;
 
 @Slf4j
 public class MySQLServer {
+    public static final String GROUP_REPLICATION_APPLIER = "group_replication_applier";
+    private static final String RECOVERY_CHANNEL =
+            "change master to master_user='repl' for channel 'group_replication_recovery'";
+    private static final SetupScript BOOTSTRAP_SCRIPT = SetupScript.of(
+            "SET @@GLOBAL.group_replication_bootstrap_group=1",
+            "create user 'repl'@'%'",
+            "GRANT REPLICATION SLAVE ON *.* TO repl@'%'",
+            "flush privileges",
+            RECOVERY_CHANNEL,
+            "START GROUP_REPLICATION",
+            "SET @@GLOBAL.group_replication_bootstrap_group=0");
+    private static final SetupScript JOIN_SCRIPT = SetupScript.of(
+            RECOVERY_CHANNEL,
+            "START GROUP_REPLICATION");
+    private static final SetupScript CLONE_DONOR_GRANT = SetupScript.of("GRANT BACKUP_ADMIN ON *.* TO repl@'%'");
+    private static final SetupScript REBOOTSTRAP_SCRIPT = SetupScript.of(
+            "SET @@GLOBAL.group_replication_bootstrap_group=1",
+            "START GROUP_REPLICATION",
+            "SET @@GLOBAL.group_replication_bootstrap_group=0");
+
     @Getter
     private final String id;
     @Getter
     private final String hostName;
+    @Getter
     private final ConnectionPool connectionPool;
 
     public MySQLServer(String id, String hostNamePrefix, ConnectionPool connectionPool) {
@@ -30,11 +57,21 @@ public class MySQLServer {
         this.connectionPool = connectionPool;
     }
 
+    /**
+     * Returns a non-blocking view of this server whose calls run on virtual threads.
+     */
+    public AsyncMySQLServer async() {
+        return new AsyncMySQLServer(this);
+    }
+
+    public Connection getConnection() {
+        return this.connectionPool.getConnection();
+    }
+
     public String getServerId() throws SQLException {
-        try (Connection connection = this.connectionPool.getConnection()) {
-            String query = "SELECT @@server_id as SERVER_ID;";
-            PreparedStatement ps = connection.prepareStatement(query);
-            ResultSet rs = ps.executeQuery();
+        try (Connection connection = this.connectionPool.getConnection();
+             PreparedStatement ps = connection.prepareStatement("SELECT @@server_id as SERVER_ID;");
+             ResultSet rs = ps.executeQuery()) {
             rs.next();
             return rs.getString("server_id");
         }
@@ -42,18 +79,16 @@ public class MySQLServer {
 
     public void createDatabase(String name) throws SQLException {
         String createUserSql = "CREATE DATABASE " + name;
-        try (Connection connection = this.connectionPool.getConnection()) {
-            Statement createStatement = connection.createStatement();
+        try (Connection connection = this.connectionPool.getConnection();
+             Statement createStatement = connection.createStatement()) {
             createStatement.execute(createUserSql);
         }
     }
 
     public Set<String> showDatabases() throws SQLException {
-        try (Connection connection = this.connectionPool.getConnection()) {
-            String query = "SHOW DATABASES;";
-            PreparedStatement ps = connection.prepareStatement(query);
-            ResultSet rs = ps.executeQuery();
-
+        try (Connection connection = this.connectionPool.getConnection();
+             PreparedStatement ps = connection.prepareStatement("SHOW DATABASES;");
+             ResultSet rs = ps.executeQuery()) {
             Set<String> set = new HashSet<>();
             while (rs.next()) {
                 set.add(rs.getString("Database"));
@@ -63,68 +98,118 @@ public class MySQLServer {
     }
 
     public void installGroupReplicationPlugin() throws SQLException {
-        try (Connection connection = this.connectionPool.getConnection()) {
-            String query = "INSTALL PLUGIN group_replication SONAME 'group_replication.so';";
-            PreparedStatement ps = connection.prepareStatement(query);
-            ps.executeUpdate();
-        }
+        runSetupScript(SetupScript.of("INSTALL PLUGIN group_replication SONAME 'group_replication.so'"));
     }
 
     public void resetMaster() throws SQLException {
-        try (Connection connection = this.connectionPool.getConnection()) {
-            String query = "RESET MASTER;";
-            PreparedStatement ps = connection.prepareStatement(query);
-            ps.executeUpdate();
-        }
+        runSetupScript(SetupScript.of("RESET MASTER"));
     }
 
     public String getGlobalGtidExecuted() throws SQLException {
-        try (Connection connection = this.connectionPool.getConnection()) {
-            String query = "SELECT @@global.gtid_executed;";
-            PreparedStatement ps = connection.prepareStatement(query);
-            ResultSet rs = ps.executeQuery();
+        try (Connection connection = this.connectionPool.getConnection();
+             PreparedStatement ps = connection.prepareStatement("SELECT @@global.gtid_executed;");
+             ResultSet rs = ps.executeQuery()) {
             rs.next();
             return rs.getString(1);
         }
     }
 
-    public void bootStrapGroupReplication() throws SQLException {
-        try (Connection connection = this.connectionPool.getConnection()) {
-            List<String> queries = new ArrayList<>();
-            queries.add("SET @@GLOBAL.group_replication_bootstrap_group=1;");
-            queries.add("create user 'repl'@'%';");
-            queries.add("GRANT REPLICATION SLAVE ON *.* TO repl@'%';");
-            queries.add("flush privileges;");
-            queries.add("change master to master_user='repl' for channel 'group_replication_recovery';");
-            queries.add("START GROUP_REPLICATION;");
-            queries.add("SET @@GLOBAL.group_replication_bootstrap_group=0;");
-
-            for (String query : queries) {
-                PreparedStatement ps = connection.prepareStatement(query);
-                ps.executeUpdate();
+    public GtidSet getGtidExecuted() throws SQLException {
+        return GtidSet.parse(getGlobalGtidExecuted());
+    }
+
+    /**
+     * Blocks server side until this member has executed every transaction of {@code gtids}.
+     *
+     * @return {@code false} if the timeout expired first
+     */
+    public boolean waitForExecutedGtidSet(GtidSet gtids, Duration timeout) throws SQLException {
+        try (Connection connection = this.connectionPool.getConnection();
+             PreparedStatement ps = connection.prepareStatement("SELECT WAIT_FOR_EXECUTED_GTID_SET(?, ?)")) {
+            ps.setString(1, gtids.toString());
+            ps.setDouble(2, timeout.toMillis() / 1000.0);
+            try (ResultSet rs = ps.executeQuery()) {
+                rs.next();
+                return rs.getInt(1) == 0;
             }
         }
     }
 
+    public void bootStrapGroupReplication() throws SQLException {
+        runSetupScript(BOOTSTRAP_SCRIPT);
+    }
+
     public void joinGroupReplication() throws SQLException {
-        try (Connection connection = this.connectionPool.getConnection()) {
-            List<String> queries = new ArrayList<>();
-            queries.add("change master to master_user='repl' for channel 'group_replication_recovery';");
-            queries.add("START GROUP_REPLICATION;");
+        runSetupScript(JOIN_SCRIPT);
+    }
+
+    /**
+     * Joins, or rejoins after {@link #stopGroupReplication()}, forcing the given distributed recovery method.
+     */
+    public void joinGroupReplication(RecoveryMethod method) throws SQLException {
+        runSetupScript(method.script().andThen(JOIN_SCRIPT));
+    }
+
+    /**
+     * Lets the recovery user clone this member's data. Run on a primary; the grant replicates to the group.
+     */
+    public void grantCloneDonor() throws SQLException {
+        runSetupScript(CLONE_DONOR_GRANT);
+    }
 
-            for (String query : queries) {
-                PreparedStatement ps = connection.prepareStatement(query);
-                ps.executeUpdate();
+    public void installClonePlugin() throws SQLException {
+        if (!showPlugins().containsKey("clone")) {
+            runSetupScript(SetupScript.of("INSTALL PLUGIN clone SONAME 'mysql_clone.so'"));
+        }
+    }
+
+    /**
+     * Starts group replication on a member that was already configured, bootstrapping a new group if requested.
+     */
+    public void startGroupReplication(boolean bootstrap) throws SQLException {
+        runSetupScript(bootstrap ? REBOOTSTRAP_SCRIPT : SetupScript.of("START GROUP_REPLICATION"));
+    }
+
+    public void stopGroupReplication() throws SQLException {
+        runSetupScript(SetupScript.of("STOP GROUP_REPLICATION"));
+    }
+
+    /**
+     * Stops only the SQL (applier) thread of the channel. The member stays in the group and keeps queueing what it
+     * receives, so the queue can be drained later with {@link #startApplier(String)}.
+     */
+    public void stopApplier(String channelName) throws SQLException {
+        runSetupScript(SetupScript.of("STOP REPLICA SQL_THREAD FOR CHANNEL '" + channelName + "'"));
+    }
+
+    public void startApplier(String channelName) throws SQLException {
+        runSetupScript(SetupScript.of("START REPLICA SQL_THREAD FOR CHANNEL '" + channelName + "'"));
+    }
+
+    public String getGlobalVariable(String name) throws SQLException {
+        try (Connection connection = this.connectionPool.getConnection();
+             PreparedStatement ps = connection.prepareStatement(
+                     "SELECT VARIABLE_VALUE FROM performance_schema.global_variables WHERE VARIABLE_NAME = ?")) {
+            ps.setString(1, name);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() ? rs.getString(1) : null;
             }
         }
     }
 
-    public Map<String, String> showPlugins() throws SQLException {
+    /**
+     * Runs the script as one batch on a single pooled connection.
+     */
+    public void runSetupScript(SetupScript script) throws SQLException {
         try (Connection connection = this.connectionPool.getConnection()) {
-            String query = "SHOW PLUGINS;";
-            PreparedStatement ps = connection.prepareStatement(query);
-            ResultSet rs = ps.executeQuery();
+            script.execute(connection);
+        }
+    }
 
+    public Map<String, String> showPlugins() throws SQLException {
+        try (Connection connection = this.connectionPool.getConnection();
+             PreparedStatement ps = connection.prepareStatement("SHOW PLUGINS;");
+             ResultSet rs = ps.executeQuery()) {
             Map<String, String> map = new HashMap<>();
             while (rs.next()) {
                 map.put(rs.getString("Name"), rs.getString("Status"));
@@ -134,17 +219,51 @@ public class MySQLServer {
     }
 
     public Map<String, GroupMember> getPerformanceSchemaReplicationGroupMembers() throws SQLException {
-        try (Connection connection = this.connectionPool.getConnection()) {
-            String query = "SELECT * FROM performance_schema.replication_group_members;";
-            PreparedStatement ps = connection.prepareStatement(query);
-            ResultSet rs = ps.executeQuery();
-
+        try (Connection connection = this.connectionPool.getConnection();
+             PreparedStatement ps = connection.prepareStatement(GroupMember.QUERY);
+             ResultSet rs = ps.executeQuery()) {
+            GroupMemberMapper mapper = GroupMemberMapper.of(rs.getMetaData());
             Map<String, GroupMember> map = new HashMap<>();
             while (rs.next()) {
-                GroupMember member = GroupMember.create(rs);
+                GroupMember member = mapper.map(rs);
                 map.put(member.host(), member);
             }
             return map;
         }
     }
+
+    public MemberStats getLocalMemberStats() throws SQLException {
+        try (Connection connection = this.connectionPool.getConnection();
+             PreparedStatement ps = connection.prepareStatement(MemberStats.QUERY + " WHERE MEMBER_ID = @@server_uuid");
+             ResultSet rs = ps.executeQuery()) {
+            return rs.next() ? MemberStats.create(rs) : null;
+        }
+    }
+
+    /**
+     * The channel's row of performance_schema.replication_connection_status, or null when the channel does not exist.
+     */
+    public ConnectionStatus getConnectionStatus(String channelName) throws SQLException {
+        try (Connection connection = this.connectionPool.getConnection();
+             PreparedStatement ps = connection.prepareStatement(ConnectionStatus.QUERY)) {
+            ps.setString(1, channelName);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() ? ConnectionStatus.create(rs) : null;
+            }
+        }
+    }
+
+    public List<ApplierWorkerStatus> getApplierWorkerStatus(String channelName) throws SQLException {
+        try (Connection connection = this.connectionPool.getConnection();
+             PreparedStatement ps = connection.prepareStatement(ApplierWorkerStatus.QUERY)) {
+            ps.setString(1, channelName);
+            try (ResultSet rs = ps.executeQuery()) {
+                List<ApplierWorkerStatus> list = new ArrayList<>();
+                while (rs.next()) {
+                    list.add(ApplierWorkerStatus.create(rs));
+                }
+                return list;
+            }
+        }
+    }
 }
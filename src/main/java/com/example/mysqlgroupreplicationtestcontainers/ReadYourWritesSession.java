@@ -0,0 +1,127 @@
+package com.example.mysqlgroupreplicationtestcontainers;
+
+import com.example.mysqlgroupreplicationtestcontainers.GroupReplicationDataSource.RoutedConnection;
+import com.example.mysqlgroupreplicationtestcontainers.gtid.GtidSet;
+import com.mysql.cj.conf.PropertyKey;
+import com.mysql.cj.jdbc.JdbcConnection;
+import com.mysql.cj.protocol.ServerSessionStateController;
+import com.mysql.cj.protocol.ServerSessionStateController.SessionStateChange;
+import com.mysql.cj.protocol.ServerSessionStateController.SessionStateChangesListener;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * One client's view of the group in which reads always see that client's own earlier writes, while the group runs
+ * with eventual consistency and other sessions pay nothing for it.
+ * <p>
+ * Writes go to the primary with {@code session_track_gtids=OWN_GTID}, so the server returns the GTID of every
+ * transaction the session commits. The member pools behind the data source must be created with
+ * {@link ConnectionPoolSettings#trackSessionGtids()}, which is off by default; a write fails otherwise. A read goes to
+ * a secondary after {@code WAIT_FOR_EXECUTED_GTID_SET} has confirmed that the secondary applied those GTIDs. If the
+ * wait times out, or no secondary is available, the read goes to the primary instead. Until the session's first
+ * write, reads go straight to a secondary.
+ * <p>
+ * Like a JDBC connection, a session is meant to be used by one thread at a time.
+ */
+@Slf4j
+public class ReadYourWritesSession {
+
+    private final GroupReplicationDataSource dataSource;
+    private final Duration waitTimeout;
+    @Getter
+    private GtidSet writtenGtids = GtidSet.EMPTY;
+    /**
+     * Reads served by a secondary.
+     */
+    @Getter
+    private long secondaryReads;
+    /**
+     * Reads served by the primary because no secondary caught up in time or none was available.
+     */
+    @Getter
+    private long primaryFallbacks;
+
+    /**
+     * @param waitTimeout how long a read waits for a secondary to catch up before it goes to the primary
+     */
+    public ReadYourWritesSession(GroupReplicationDataSource dataSource, Duration waitTimeout) {
+        this.dataSource = dataSource;
+        this.waitTimeout = waitTimeout;
+    }
+
+    /**
+     * Runs {@code work} on the primary and remembers the GTIDs of the transactions it commits. Works both with
+     * auto-commit statements and with transactions {@code work} commits itself.
+     */
+    public <R> R write(SqlFunction<Connection, R> work) throws SQLException {
+        return dataSource.write(connection -> {
+            JdbcConnection jdbcConnection = connection.unwrap(JdbcConnection.class);
+            if (!jdbcConnection.getPropertySet().getBooleanProperty(PropertyKey.trackSessionState).getValue()) {
+                throw new IllegalStateException("The pools of the group members do not track session GTIDs, "
+                        + "see ConnectionPoolSettings#withTrackSessionGtids");
+            }
+            ServerSessionStateController controller = jdbcConnection.getServerSessionStateController();
+            SessionStateChangesListener listener = changes -> {
+                for (SessionStateChange change : changes.getSessionStateChangesList()) {
+                    if (change.getType() == ServerSessionStateController.SESSION_TRACK_GTIDS) {
+                        change.getValues().forEach(this::addWrittenGtids);
+                    }
+                }
+            };
+            controller.addSessionStateChangesListener(listener);
+            try {
+                return work.apply(connection);
+            } finally {
+                controller.removeSessionStateChangesListener(listener);
+            }
+        });
+    }
+
+    /**
+     * Runs {@code work} on a secondary that has applied every write of this session, or on the primary when none
+     * caught up within the wait timeout or no secondary is available.
+     */
+    public <R> R read(SqlFunction<Connection, R> work) throws SQLException {
+        try (RoutedConnection routed = dataSource.getRoutedReadConnection()) {
+            if (routed.secondary()) {
+                if (writtenGtids.isEmpty() || waitForWrittenGtids(routed.connection())) {
+                    R result = work.apply(routed.connection());
+                    secondaryReads++;
+                    return result;
+                }
+                log.debug("{} did not apply {} within {}, reading from the primary", routed.member().getHostName(),
+                        writtenGtids, waitTimeout);
+            }
+        }
+        // Without a secondary the read connection may come from any primary of a multi-primary group, not
+        // necessarily the one this session writes to.
+        try (Connection connection = dataSource.getWriteConnection()) {
+            R result = work.apply(connection);
+            primaryFallbacks++;
+            return result;
+        }
+    }
+
+    private boolean waitForWrittenGtids(Connection connection) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement("SELECT WAIT_FOR_EXECUTED_GTID_SET(?, ?)")) {
+            ps.setString(1, writtenGtids.toString());
+            ps.setDouble(2, waitTimeout.toMillis() / 1000.0);
+            try (ResultSet rs = ps.executeQuery()) {
+                rs.next();
+                return rs.getInt(1) == 0;
+            }
+        }
+    }
+
+    private void addWrittenGtids(String gtids) {
+        if (gtids != null && !gtids.isBlank()) {
+            writtenGtids = writtenGtids.union(GtidSet.parse(gtids));
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.mysqlgroupreplicationtestcontainers;
+
+/**
+ * How a joining member catches up with the group, chosen through group_replication_clone_threshold: the member
+ * clones a donor when it is missing more transactions than the threshold, and replays the donor's binary log
+ * otherwise.
+ */
+public enum RecoveryMethod {
+    /**
+     * State transfer from a donor's binary log.
+     */
+    INCREMENTAL(Long.MAX_VALUE),
+    /**
+     * Snapshot of a donor's data directory through the clone plugin, followed by a restart of the joining member and
+     * an incremental catch-up on what was committed meanwhile. Needs the clone plugin on both members and
+     * BACKUP_ADMIN for the recovery user.
+     */
+    CLONE(1);
+
+    private final long cloneThreshold;
+
+    RecoveryMethod(long cloneThreshold) {
+        this.cloneThreshold = cloneThreshold;
+    }
+
+    SetupScript script() {
+        SetupScript script = SetupScript.of("SET GLOBAL group_replication_clone_threshold = " + cloneThreshold);
+        // The clone restarts the member, which has to rejoin by itself afterwards.
+        return this == CLONE ? script.andThen("SET PERSIST group_replication_start_on_boot = ON") : script;
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.mysqlgroupreplicationtestcontainers;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * An ordered list of statements sent to the server as one JDBC batch on a single statement handle.
+ * With {@code rewriteBatchedStatements=true} on the URL, Connector/J ships batches of more than four statements as a
+ * single multi-statement round trip, joining them with its own {@code ;}. Trailing semicolons are therefore stripped
+ * from every statement, since an empty statement between two of them is a syntax error.
+ */
+public final class SetupScript {
+    private final List<String> statements;
+
+    private SetupScript(List<String> statements) {
+        this.statements = statements.stream().map(SetupScript::stripTerminator).toList();
+    }
+
+    private static String stripTerminator(String sql) {
+        String stripped = sql.strip();
+        while (stripped.endsWith(";")) {
+            stripped = stripped.substring(0, stripped.length() - 1).strip();
+        }
+        return stripped;
+    }
+
+    public static SetupScript of(String... statements) {
+        return new SetupScript(Arrays.asList(statements));
+    }
+
+    public SetupScript andThen(String... more) {
+        List<String> list = new ArrayList<>(statements);
+        list.addAll(Arrays.asList(more));
+        return new SetupScript(list);
+    }
+
+    public SetupScript andThen(SetupScript other) {
+        return andThen(other.statements.toArray(String[]::new));
+    }
+
+    public List<String> getStatements() {
+        return statements;
+    }
+
+    public void execute(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String sql : statements) {
+                statement.addBatch(sql);
+            }
+            statement.executeBatch();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.join(" ", statements);
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.mysqlgroupreplicationtestcontainers;
+
+import java.sql.SQLException;
+
+@FunctionalInterface
+public interface SqlFunction<T, R> {
+    R apply(T t) throws SQLException;
+}
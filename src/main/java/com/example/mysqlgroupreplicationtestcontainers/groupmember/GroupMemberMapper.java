@@ -0,0 +1,50 @@
+package com.example.mysqlgroupreplicationtestcontainers.groupmember;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+/**
+ * Maps replication_group_members rows by column index. Indexes are resolved once from the result set metadata, so
+ * mapping a row does no column name lookups.
+ */
+public final class GroupMemberMapper {
+    private final int[] indexes = new int[Variable.VALUES.length];
+
+    private GroupMemberMapper(ResultSetMetaData metaData) throws SQLException {
+        for (int column = 1; column <= metaData.getColumnCount(); column++) {
+            String label = metaData.getColumnLabel(column);
+            // GroupMember.QUERY lists the columns in declaration order, so the positional guess usually hits.
+            if (column <= indexes.length && Variable.VALUES[column - 1].name().equalsIgnoreCase(label)) {
+                indexes[column - 1] = column;
+                continue;
+            }
+            for (Variable variable : Variable.VALUES) {
+                if (variable.name().equalsIgnoreCase(label)) {
+                    indexes[variable.ordinal()] = column;
+                }
+            }
+        }
+        for (Variable variable : Variable.VALUES) {
+            if (indexes[variable.ordinal()] == 0) {
+                throw new SQLException("Column " + variable + " not found in the result set");
+            }
+        }
+    }
+
+    public static GroupMemberMapper of(ResultSetMetaData metaData) throws SQLException {
+        return new GroupMemberMapper(metaData);
+    }
+
+    public GroupMember map(ResultSet rs) throws SQLException {
+        return new GroupMember(
+                rs.getString(indexes[Variable.MEMBER_ID.ordinal()]),
+                rs.getString(indexes[Variable.CHANNEL_NAME.ordinal()]),
+                rs.getString(indexes[Variable.MEMBER_HOST.ordinal()]),
+                rs.getString(indexes[Variable.MEMBER_PORT.ordinal()]),
+                MemberState.of(rs.getString(indexes[Variable.MEMBER_STATE.ordinal()])),
+                MemberRole.of(rs.getString(indexes[Variable.MEMBER_ROLE.ordinal()])),
+                rs.getString(indexes[Variable.MEMBER_VERSION.ordinal()]),
+                rs.getString(indexes[Variable.MEMBER_COMMUNICATION_STACK.ordinal()]));
+    }
+}
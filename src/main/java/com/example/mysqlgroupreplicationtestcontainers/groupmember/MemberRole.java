@@ -0,0 +1,18 @@
+package com.example.mysqlgroupreplicationtestcontainers.groupmember;
+
+public enum MemberRole {
+    PRIMARY, SECONDARY, NONE;
+
+    /**
+     * Maps the MEMBER_ROLE column, which is empty while a member has no role in the group.
+     */
+    public static MemberRole of(String value) {
+        if ("PRIMARY".equals(value)) {
+            return PRIMARY;
+        }
+        if ("SECONDARY".equals(value)) {
+            return SECONDARY;
+        }
+        return NONE;
+    }
+}
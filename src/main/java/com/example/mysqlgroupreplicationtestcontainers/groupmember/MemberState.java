@@ -0,0 +1,21 @@
+package com.example.mysqlgroupreplicationtestcontainers.groupmember;
+
+public enum MemberState {
+    ONLINE, RECOVERING, OFFLINE, ERROR, UNREACHABLE;
+
+    /**
+     * Maps the MEMBER_STATE column; a member that is not part of a group reports an empty state.
+     */
+    public static MemberState of(String value) {
+        if (value == null || value.isEmpty()) {
+            return OFFLINE;
+        }
+        return switch (value) {
+            case "ONLINE" -> ONLINE;
+            case "RECOVERING" -> RECOVERING;
+            case "OFFLINE" -> OFFLINE;
+            case "UNREACHABLE" -> UNREACHABLE;
+            default -> ERROR;
+        };
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.mysqlgroupreplicationtestcontainers.groupmember;
+
+/**
+ * A change between two consecutive membership snapshots. {@code previous} is null for a member that just appeared
+ * and {@code current} is null for a member that left the view.
+ */
+public record MembershipEvent(Type type, String host, GroupMember previous, GroupMember current) {
+
+    public enum Type {
+        ONLINE, RECOVERING, UNREACHABLE, OFFLINE, ERROR, LEFT, ROLE_CHANGED;
+
+        static Type fromState(MemberState state) {
+            return switch (state) {
+                case ONLINE -> ONLINE;
+                case RECOVERING -> RECOVERING;
+                case UNREACHABLE -> UNREACHABLE;
+                case OFFLINE -> OFFLINE;
+                case ERROR -> ERROR;
+            };
+        }
+    }
+}
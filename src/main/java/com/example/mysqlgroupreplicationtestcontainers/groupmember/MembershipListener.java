@@ -0,0 +1,6 @@
+package com.example.mysqlgroupreplicationtestcontainers.groupmember;
+
+@FunctionalInterface
+public interface MembershipListener {
+    void onEvent(MembershipEvent event);
+}
@@ -0,0 +1,213 @@
+package com.example.mysqlgroupreplicationtestcontainers.groupmember;
+
+import com.example.mysqlgroupreplicationtestcontainers.MySQLServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+
+/**
+ * Keeps one cached view of performance_schema.replication_group_members, refreshed on a fixed interval, and turns
+ * the differences between consecutive views into {@link MembershipEvent}s. The view is read from the first source
+ * server that lists itself as ONLINE, so the monitor keeps working while individual members are down and does not
+ * trust an expelled or partitioned member, which still answers with its own stale view. When no source is ONLINE in
+ * its own view, the first view read is used.
+ */
+@Slf4j
+public class MembershipMonitor implements AutoCloseable {
+
+    private record Waiter(String host, Predicate<GroupMember> condition, CompletableFuture<GroupMember> future) {
+    }
+
+    private final List<MySQLServer> sources;
+    private final Duration interval;
+    private final List<MembershipListener> listeners = new CopyOnWriteArrayList<>();
+    private final List<Waiter> waiters = new CopyOnWriteArrayList<>();
+    private volatile Map<String, GroupMember> snapshot = Collections.emptyMap();
+    private ScheduledExecutorService scheduler;
+
+    public MembershipMonitor(List<MySQLServer> sources, Duration interval) {
+        if (sources.isEmpty()) {
+            throw new IllegalArgumentException("At least one source server is required");
+        }
+        this.sources = List.copyOf(sources);
+        this.interval = interval;
+    }
+
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "membership-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::refreshQuietly, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public void addListener(MembershipListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(MembershipListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Returns the last view read from the group, keyed by member host.
+     */
+    public Map<String, GroupMember> getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Reads the current view right away instead of waiting for the next scheduled refresh.
+     */
+    public synchronized Map<String, GroupMember> refresh() throws SQLException {
+        Map<String, GroupMember> current = readView();
+        Map<String, GroupMember> previous = snapshot;
+        snapshot = Collections.unmodifiableMap(current);
+
+        for (MembershipEvent event : diff(previous, current)) {
+            for (MembershipListener listener : listeners) {
+                try {
+                    listener.onEvent(event);
+                } catch (RuntimeException e) {
+                    log.warn("Membership listener failed on {}", event, e);
+                }
+            }
+        }
+        completeWaiters(current);
+        return snapshot;
+    }
+
+    /**
+     * Completes once the member with the given host is seen in a state matching {@code condition}.
+     */
+    public CompletableFuture<GroupMember> when(String host, Predicate<GroupMember> condition) {
+        Waiter waiter = new Waiter(host, condition, new CompletableFuture<>());
+        waiters.add(waiter);
+        completeWaiters(snapshot);
+        return waiter.future();
+    }
+
+    public CompletableFuture<GroupMember> onlineFuture(String host) {
+        return when(host, GroupMember::isOnline);
+    }
+
+    public GroupMember awaitOnline(String host, Duration timeout)
+            throws InterruptedException, TimeoutException {
+        return await(onlineFuture(host), timeout);
+    }
+
+    public static GroupMember await(CompletableFuture<GroupMember> future, Duration timeout)
+            throws InterruptedException, TimeoutException {
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            future.cancel(false);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+        for (Waiter waiter : waiters) {
+            waiter.future().cancel(false);
+        }
+        waiters.clear();
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (SQLException e) {
+            log.warn("Could not read group membership from any source: {}", e.getMessage());
+        }
+    }
+
+    private Map<String, GroupMember> readView() throws SQLException {
+        SQLException failure = null;
+        Map<String, GroupMember> fallback = null;
+        for (MySQLServer source : sources) {
+            try {
+                Map<String, GroupMember> view = source.getPerformanceSchemaReplicationGroupMembers();
+                if (listsItselfOnline(source.getHostName(), view)) {
+                    return view;
+                }
+                if (fallback == null) {
+                    fallback = view;
+                }
+            } catch (SQLException | RuntimeException e) {
+                SQLException sqlException = e instanceof SQLException se ? se : new SQLException(e);
+                if (failure == null) {
+                    failure = sqlException;
+                } else {
+                    failure.addSuppressed(sqlException);
+                }
+            }
+        }
+        if (fallback != null) {
+            log.debug("No source lists itself as ONLINE, using a view that may be stale");
+            return fallback;
+        }
+        throw failure;
+    }
+
+    static boolean listsItselfOnline(String host, Map<String, GroupMember> view) {
+        GroupMember self = view.get(host);
+        return self != null && self.isOnline();
+    }
+
+    private void completeWaiters(Map<String, GroupMember> view) {
+        for (Waiter waiter : waiters) {
+            if (waiter.future().isDone()) {
+                waiters.remove(waiter);
+                continue;
+            }
+            GroupMember member = view.get(waiter.host());
+            if (member != null && waiter.condition().test(member)) {
+                waiter.future().complete(member);
+                waiters.remove(waiter);
+            }
+        }
+    }
+
+    static List<MembershipEvent> diff(Map<String, GroupMember> previous, Map<String, GroupMember> current) {
+        List<MembershipEvent> events = new ArrayList<>();
+        for (GroupMember member : current.values()) {
+            GroupMember before = previous.get(member.host());
+            if (before == null || before.state() != member.state()) {
+                events.add(new MembershipEvent(MembershipEvent.Type.fromState(member.state()), member.host(),
+                        before, member));
+            }
+            if (before != null && before.role() != member.role()) {
+                events.add(new MembershipEvent(MembershipEvent.Type.ROLE_CHANGED, member.host(), before, member));
+            }
+        }
+        for (GroupMember before : previous.values()) {
+            if (!current.containsKey(before.host())) {
+                events.add(new MembershipEvent(MembershipEvent.Type.LEFT, before.host(), before, null));
+            }
+        }
+        return events;
+    }
+}
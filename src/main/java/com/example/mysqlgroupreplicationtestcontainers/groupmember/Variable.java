@@ -2,5 +2,7 @@ package com.example.mysqlgroupreplicationtestcontainers.groupmember;
 
 enum Variable {
     CHANNEL_NAME, MEMBER_ID, MEMBER_HOST, MEMBER_PORT, MEMBER_STATE, MEMBER_ROLE,
-    MEMBER_VERSION, MEMBER_COMMUNICATION_STACK
+    MEMBER_VERSION, MEMBER_COMMUNICATION_STACK;
+
+    static final Variable[] VALUES = values();
 }
@@ -0,0 +1,81 @@
+package com.example.mysqlgroupreplicationtestcontainers.gtid;
+
+import com.example.mysqlgroupreplicationtestcontainers.AsyncMySQLServer;
+import com.example.mysqlgroupreplicationtestcontainers.MySQLServer;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares gtid_executed across members. The union of every member's set is what the group as a whole has executed;
+ * what a member is missing is that union minus its own set.
+ */
+public final class GtidConvergence {
+
+    public record Report(Map<String, GtidSet> executed, GtidSet union, Map<String, GtidSet> missing) {
+
+        public boolean isConverged() {
+            return missing.values().stream().allMatch(GtidSet::isEmpty);
+        }
+
+        @Override
+        public String toString() {
+            if (isConverged()) {
+                return "All members executed " + union;
+            }
+            StringBuilder builder = new StringBuilder("Members missing transactions:");
+            missing.forEach((host, gtids) -> {
+                if (!gtids.isEmpty()) {
+                    builder.append(String.format("%n%s is missing %d: %s", host, gtids.count(), gtids));
+                }
+            });
+            return builder.toString();
+        }
+    }
+
+    private GtidConvergence() {
+    }
+
+    /**
+     * Reads gtid_executed from every member at once and reports what each one is missing.
+     */
+    public static Report check(List<MySQLServer> members) throws SQLException {
+        Map<String, GtidSet> executed = AsyncMySQLServer.await(
+                AsyncMySQLServer.allMembers(members, MySQLServer::getGtidExecuted));
+        GtidSet union = GtidSet.EMPTY;
+        for (GtidSet gtids : executed.values()) {
+            union = union.union(gtids);
+        }
+        Map<String, GtidSet> missing = new LinkedHashMap<>();
+        for (Map.Entry<String, GtidSet> entry : executed.entrySet()) {
+            missing.put(entry.getKey(), union.subtract(entry.getValue()));
+        }
+        return new Report(executed, union, missing);
+    }
+
+    /**
+     * Makes every lagging member wait, server side with WAIT_FOR_EXECUTED_GTID_SET, until it has executed everything
+     * any member had executed when this was called, then reports again. Transactions committed while waiting can
+     * still show up as missing in the returned report.
+     */
+    public static Report await(List<MySQLServer> members, Duration timeout) throws SQLException {
+        Report report = check(members);
+        if (report.isConverged()) {
+            return report;
+        }
+        List<MySQLServer> lagging = new ArrayList<>();
+        for (MySQLServer member : members) {
+            if (!report.missing().get(member.getHostName()).isEmpty()) {
+                lagging.add(member);
+            }
+        }
+        GtidSet target = report.union();
+        AsyncMySQLServer.await(AsyncMySQLServer.allMembers(lagging,
+                member -> member.waitForExecutedGtidSet(target, timeout)));
+        return check(members);
+    }
+}
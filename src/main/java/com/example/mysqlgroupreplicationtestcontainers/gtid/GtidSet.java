@@ -0,0 +1,340 @@
+package com.example.mysqlgroupreplicationtestcontainers.gtid;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Immutable set of GTIDs as found in {@code gtid_executed}: {@code uuid:1-5:7,uuid2:1-100}. Each source (a server
+ * UUID, or {@code uuid:tag} on servers with tagged GTIDs) maps to a flat array of inclusive {@code [start, end]}
+ * pairs that is sorted, non-overlapping and non-adjacent, so equal sets always have equal arrays and every operation
+ * is a linear merge over primitive longs.
+ */
+public final class GtidSet {
+    public static final GtidSet EMPTY = new GtidSet(Collections.emptyNavigableMap());
+
+    private final NavigableMap<String, long[]> sources;
+
+    private GtidSet(NavigableMap<String, long[]> sources) {
+        this.sources = sources;
+    }
+
+    /**
+     * Parses the text form used by MySQL. Whitespace (including the newlines MySQL puts after each comma) is
+     * ignored, intervals may come in any order and may overlap, and an empty string is the empty set.
+     *
+     * @throws IllegalArgumentException if the text is not a GTID set
+     */
+    public static GtidSet parse(String text) {
+        Map<String, IntervalBuffer> buffers = new TreeMap<>();
+        int length = text.length();
+        int position = 0;
+        while (position < length) {
+            int end = text.indexOf(',', position);
+            if (end < 0) {
+                end = length;
+            }
+            String element = text.substring(position, end).strip();
+            position = end + 1;
+            if (!element.isEmpty()) {
+                parseElement(element, buffers);
+            }
+        }
+        NavigableMap<String, long[]> sources = new TreeMap<>();
+        buffers.forEach((source, buffer) -> {
+            if (buffer.size > 0) {
+                sources.put(source, normalize(buffer.values, buffer.size));
+            }
+        });
+        return sources.isEmpty() ? EMPTY : new GtidSet(sources);
+    }
+
+    private static final class IntervalBuffer {
+        private long[] values = new long[8];
+        private int size;
+
+        void add(long start, long end) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = start;
+            values[size++] = end;
+        }
+    }
+
+    private static void parseElement(String element, Map<String, IntervalBuffer> buffers) {
+        String[] parts = element.split(":");
+        String uuid = parts[0].strip().toLowerCase(Locale.ROOT);
+        if (uuid.isEmpty() || parts.length < 2) {
+            throw new IllegalArgumentException("Not a GTID set element: " + element);
+        }
+        IntervalBuffer buffer = null;
+        for (int i = 1; i < parts.length; i++) {
+            String part = parts[i].strip();
+            if (part.isEmpty()) {
+                throw new IllegalArgumentException("Empty interval in " + element);
+            }
+            if (!Character.isDigit(part.charAt(0))) {
+                buffer = buffers.computeIfAbsent(uuid + ":" + part.toLowerCase(Locale.ROOT), s -> new IntervalBuffer());
+                continue;
+            }
+            if (buffer == null) {
+                buffer = buffers.computeIfAbsent(uuid, s -> new IntervalBuffer());
+            }
+            int dash = part.indexOf('-');
+            long start = parseNumber(part, 0, dash < 0 ? part.length() : dash, element);
+            long stop = dash < 0 ? start : parseNumber(part, dash + 1, part.length(), element);
+            if (start < 1 || stop < start) {
+                throw new IllegalArgumentException("Invalid interval " + part + " in " + element);
+            }
+            buffer.add(start, stop);
+        }
+    }
+
+    private static long parseNumber(String text, int from, int to, String element) {
+        try {
+            return Long.parseLong(text, from, to, 10);
+        } catch (NumberFormatException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid interval " + text + " in " + element, e);
+        }
+    }
+
+    /**
+     * Sorts the first {@code length} values, read as pairs, by start and merges overlapping or adjacent ones. MySQL
+     * prints intervals in order, so the sort is usually skipped.
+     */
+    private static long[] normalize(long[] intervals, int length) {
+        boolean sorted = true;
+        for (int i = 2; i < length && sorted; i += 2) {
+            sorted = intervals[i - 2] <= intervals[i];
+        }
+        long[] merged = new long[length];
+        int size = 0;
+        if (sorted) {
+            for (int i = 0; i < length; i += 2) {
+                size = append(merged, size, intervals[i], intervals[i + 1]);
+            }
+        } else {
+            Integer[] order = new Integer[length / 2];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> Long.compare(intervals[2 * a], intervals[2 * b]));
+            for (int index : order) {
+                size = append(merged, size, intervals[2 * index], intervals[2 * index + 1]);
+            }
+        }
+        return size == length ? merged : Arrays.copyOf(merged, size);
+    }
+
+    /**
+     * Appends {@code [start, end]} to a normalized array being built in start order, merging with the last pair when
+     * they overlap or touch, and returns the new length.
+     */
+    private static int append(long[] target, int size, long start, long end) {
+        if (size > 0 && start <= target[size - 1] + 1) {
+            target[size - 1] = Math.max(target[size - 1], end);
+            return size;
+        }
+        target[size] = start;
+        target[size + 1] = end;
+        return size + 2;
+    }
+
+    public boolean isEmpty() {
+        return sources.isEmpty();
+    }
+
+    /**
+     * Sources with at least one transaction, in sorted order.
+     */
+    public Set<String> sources() {
+        return Collections.unmodifiableSet(sources.keySet());
+    }
+
+    /**
+     * A copy of the normalized {@code [start, end]} pairs of the source; empty if the set has none.
+     */
+    public long[] intervals(String source) {
+        long[] intervals = sources.get(source.toLowerCase(Locale.ROOT));
+        return intervals == null ? new long[0] : intervals.clone();
+    }
+
+    /**
+     * Number of transactions in the set.
+     */
+    public long count() {
+        long count = 0;
+        for (long[] intervals : sources.values()) {
+            for (int i = 0; i < intervals.length; i += 2) {
+                count += intervals[i + 1] - intervals[i] + 1;
+            }
+        }
+        return count;
+    }
+
+    public boolean contains(String source, long transactionId) {
+        long[] intervals = sources.get(source.toLowerCase(Locale.ROOT));
+        return intervals != null && covers(intervals, transactionId, transactionId);
+    }
+
+    /**
+     * Whether every transaction of {@code other} is also in this set.
+     */
+    public boolean contains(GtidSet other) {
+        for (Map.Entry<String, long[]> entry : other.sources.entrySet()) {
+            long[] mine = sources.get(entry.getKey());
+            if (mine == null) {
+                return false;
+            }
+            long[] theirs = entry.getValue();
+            for (int i = 0; i < theirs.length; i += 2) {
+                if (!covers(mine, theirs[i], theirs[i + 1])) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Whether a single pair of the normalized array covers {@code [start, end]}; pairs never touch, so a range
+     * split across two pairs has a gap in between.
+     */
+    private static boolean covers(long[] intervals, long start, long end) {
+        int low = 0;
+        int high = intervals.length / 2 - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (intervals[2 * middle] <= start) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return high >= 0 && intervals[2 * high + 1] >= end;
+    }
+
+    public GtidSet union(GtidSet other) {
+        if (other.isEmpty()) {
+            return this;
+        }
+        if (isEmpty()) {
+            return other;
+        }
+        NavigableMap<String, long[]> result = new TreeMap<>(sources);
+        other.sources.forEach((source, theirs) -> result.merge(source, theirs, GtidSet::union));
+        return new GtidSet(result);
+    }
+
+    private static long[] union(long[] a, long[] b) {
+        long[] merged = new long[a.length + b.length];
+        int size = 0, i = 0, j = 0;
+        while (i < a.length || j < b.length) {
+            if (j >= b.length || (i < a.length && a[i] <= b[j])) {
+                size = append(merged, size, a[i], a[i + 1]);
+                i += 2;
+            } else {
+                size = append(merged, size, b[j], b[j + 1]);
+                j += 2;
+            }
+        }
+        return Arrays.copyOf(merged, size);
+    }
+
+    /**
+     * The transactions of this set that are not in {@code other}.
+     */
+    public GtidSet subtract(GtidSet other) {
+        if (isEmpty() || other.isEmpty()) {
+            return this;
+        }
+        NavigableMap<String, long[]> result = new TreeMap<>();
+        sources.forEach((source, mine) -> {
+            long[] theirs = other.sources.get(source);
+            long[] remaining = theirs == null ? mine : subtract(mine, theirs);
+            if (remaining.length > 0) {
+                result.put(source, remaining);
+            }
+        });
+        return result.isEmpty() ? EMPTY : new GtidSet(result);
+    }
+
+    private static long[] subtract(long[] a, long[] b) {
+        // Every pair of b can split at most one pair of a in two.
+        long[] result = new long[a.length + b.length];
+        int size = 0;
+        int j = 0;
+        for (int i = 0; i < a.length; i += 2) {
+            long start = a[i];
+            long end = a[i + 1];
+            while (j < b.length && b[j + 1] < start) {
+                j += 2;
+            }
+            for (int k = j; start <= end && k < b.length && b[k] <= end; k += 2) {
+                if (b[k] > start) {
+                    result[size++] = start;
+                    result[size++] = b[k] - 1;
+                }
+                start = Math.max(start, b[k + 1] + 1);
+            }
+            if (start <= end) {
+                result[size++] = start;
+                result[size++] = end;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof GtidSet other) || !sources.keySet().equals(other.sources.keySet())) {
+            return false;
+        }
+        for (Map.Entry<String, long[]> entry : sources.entrySet()) {
+            if (!Arrays.equals(entry.getValue(), other.sources.get(entry.getKey()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (Map.Entry<String, long[]> entry : sources.entrySet()) {
+            hash = 31 * hash + entry.getKey().hashCode();
+            hash = 31 * hash + Arrays.hashCode(entry.getValue());
+        }
+        return hash;
+    }
+
+    /**
+     * The canonical text form, {@code uuid:1-5:7,uuid2:1-100}, which MySQL accepts back.
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        for (Map.Entry<String, long[]> entry : sources.entrySet()) {
+            if (!builder.isEmpty()) {
+                builder.append(',');
+            }
+            builder.append(entry.getKey());
+            long[] intervals = entry.getValue();
+            for (int i = 0; i < intervals.length; i += 2) {
+                builder.append(':').append(intervals[i]);
+                if (intervals[i + 1] != intervals[i]) {
+                    builder.append('-').append(intervals[i + 1]);
+                }
+            }
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.mysqlgroupreplicationtestcontainers.load;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Where certification conflicts happened during a run, per table and per range of hot keys. The group does not say
+ * which row made a transaction lose certification, so a rolled back transaction counts as one conflict for every hot
+ * key range it wrote; attempts count the same way for every transaction, committed or not.
+ */
+public class ConflictHotspots {
+
+    public record Range(String table, long firstKey, long lastKey, long attempts, long conflicts) {
+
+        public double conflictRate() {
+            return attempts == 0 ? 0 : (double) conflicts / attempts;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s [%d, %d]: %d conflicts in %d attempts (%.2f%%)", table, firstKey, lastKey,
+                    conflicts, attempts, conflictRate() * 100);
+        }
+    }
+
+    private final int tables;
+    private final int keysPerTable;
+    private final int keysPerRange;
+    private final int ranges;
+    private final long[] attempts;
+    private final long[] conflicts;
+
+    ConflictHotspots(LoadProfile profile, int rangesPerTable) {
+        this.tables = profile.tables();
+        this.keysPerTable = (profile.hotKeys() + tables - 1) / tables;
+        this.keysPerRange = Math.max(1, (keysPerTable + rangesPerTable - 1) / rangesPerTable);
+        this.ranges = (keysPerTable + keysPerRange - 1) / keysPerRange;
+        this.attempts = new long[tables * ranges];
+        this.conflicts = new long[tables * ranges];
+    }
+
+    /**
+     * Bucket of the hot key {@code id} in table {@code table}, for {@link #record(int[], int, boolean)}.
+     */
+    int bucket(int table, long id) {
+        return table * ranges + (int) (id / keysPerRange);
+    }
+
+    /**
+     * Records one transaction that wrote the first {@code count} buckets of {@code buckets}, which may repeat.
+     */
+    void record(int[] buckets, int count, boolean conflicted) {
+        for (int i = 0; i < count; i++) {
+            int bucket = buckets[i];
+            if (isRepeated(buckets, i, bucket)) {
+                continue;
+            }
+            attempts[bucket]++;
+            if (conflicted) {
+                conflicts[bucket]++;
+            }
+        }
+    }
+
+    private static boolean isRepeated(int[] buckets, int index, int bucket) {
+        for (int i = 0; i < index; i++) {
+            if (buckets[i] == bucket) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void add(ConflictHotspots other) {
+        for (int i = 0; i < attempts.length; i++) {
+            attempts[i] += other.attempts[i];
+            conflicts[i] += other.conflicts[i];
+        }
+    }
+
+    public List<Range> ranges() {
+        List<Range> result = new ArrayList<>(attempts.length);
+        for (int table = 0; table < tables; table++) {
+            for (int range = 0; range < ranges; range++) {
+                long first = (long) range * keysPerRange;
+                long last = Math.min(first + keysPerRange, keysPerTable) - 1;
+                int bucket = table * ranges + range;
+                result.add(new Range(LoadGenerator.table(table), first, last, attempts[bucket], conflicts[bucket]));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The {@code limit} ranges with the most conflicts, worst first.
+     */
+    public List<Range> top(int limit) {
+        return ranges().stream()
+                .filter(range -> range.conflicts() > 0)
+                .sorted(Comparator.comparingLong(Range::conflicts).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * Conflicts per table, in table order.
+     */
+    public Map<String, Long> conflictsByTable() {
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (Range range : ranges()) {
+            result.merge(range.table(), range.conflicts(), Long::sum);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder("Conflicts by table: ").append(conflictsByTable());
+        for (Range range : top(5)) {
+            report.append(System.lineSeparator()).append("  ").append(range);
+        }
+        return report.toString();
+    }
+}
@@ -0,0 +1,200 @@
+package com.example.mysqlgroupreplicationtestcontainers.load;
+
+import com.example.mysqlgroupreplicationtestcontainers.AsyncMySQLServer;
+import com.example.mysqlgroupreplicationtestcontainers.MySQLServer;
+import com.example.mysqlgroupreplicationtestcontainers.SetupScript;
+import com.example.mysqlgroupreplicationtestcontainers.gtid.GtidConvergence;
+import com.example.mysqlgroupreplicationtestcontainers.stats.MemberStats;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fills tables through the primary before a measurement starts, then waits until every member has applied the rows.
+ * The tables are split into chunks of one transaction each, which the writers take from a shared counter. A writer
+ * queues {@link SeedPlan#rowsPerStatement()} rows per JDBC batch; with {@code rewriteBatchedStatements=true} on the
+ * URL (set for every container) Connector/J sends each batch as one multi-row INSERT.
+ */
+@Slf4j
+public class DataSeeder {
+    private static final Duration SETTLE_POLL = Duration.ofMillis(200);
+
+    public record SeedResult(long rows, Duration loadTime, Duration settleTime, GtidConvergence.Report convergence) {
+
+        public double rowsPerSecond() {
+            return loadTime.isZero() ? 0 : rows * 1_000_000_000.0 / loadTime.toNanos();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Seeded %d rows in %d ms (%.0f rows/s), members converged %d ms later", rows,
+                    loadTime.toMillis(), rowsPerSecond(), settleTime.toMillis());
+        }
+    }
+
+    private final MySQLServer primary;
+    private final List<MySQLServer> members;
+
+    /**
+     * @param primary the member the rows are written through
+     * @param members every member that must hold the rows before seeding counts as done, the primary included
+     */
+    public DataSeeder(MySQLServer primary, List<MySQLServer> members) {
+        this.primary = primary;
+        this.members = List.copyOf(members);
+    }
+
+    /**
+     * (Re)creates the plan's tables, loads them and waits up to {@code settleTimeout} for the group to apply
+     * everything.
+     *
+     * @throws TimeoutException if the members did not converge in time
+     */
+    public SeedResult seed(SeedPlan plan, Duration settleTimeout)
+            throws SQLException, InterruptedException, TimeoutException {
+        createTables(plan);
+
+        long start = System.nanoTime();
+        long rows = load(plan);
+        long loaded = System.nanoTime();
+        log.info("Loaded {} rows into {} tables of {}", rows, plan.tables(), plan.schema());
+
+        GtidConvergence.Report convergence = settle(loaded + settleTimeout.toNanos(), settleTimeout);
+        SeedResult result = new SeedResult(rows, Duration.ofNanos(loaded - start),
+                Duration.ofNanos(System.nanoTime() - loaded), convergence);
+        log.info("{}", result);
+        return result;
+    }
+
+    private void createTables(SeedPlan plan) throws SQLException {
+        List<String> statements = new ArrayList<>();
+        statements.add("CREATE DATABASE IF NOT EXISTS " + plan.schema());
+        for (int table = 1; table <= plan.tables(); table++) {
+            statements.add("DROP TABLE IF EXISTS " + plan.table(table));
+            statements.add("CREATE TABLE " + plan.table(table) + " (id BIGINT NOT NULL PRIMARY KEY, " +
+                    "k INT NOT NULL, payload VARBINARY(" + plan.rowSize() + ") NOT NULL, KEY k_idx (k))");
+        }
+        primary.runSetupScript(SetupScript.of(statements.toArray(String[]::new)));
+    }
+
+    private long load(SeedPlan plan) throws SQLException {
+        long rowsPerChunk = (long) plan.rowsPerStatement() * plan.statementsPerTransaction();
+        long chunksPerTable = (plan.rowsPerTable() + rowsPerChunk - 1) / rowsPerChunk;
+        AtomicLong nextChunk = new AtomicLong();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Long>> writers = new ArrayList<>();
+            for (int i = 0; i < plan.writers(); i++) {
+                writers.add(executor.submit(() -> writeChunks(plan, nextChunk, chunksPerTable, rowsPerChunk)));
+            }
+            long rows = 0;
+            for (Future<Long> writer : writers) {
+                rows += AsyncMySQLServer.await(writer);
+            }
+            return rows;
+        }
+    }
+
+    /**
+     * Takes chunks until none are left, each one a transaction covering ids {@code [first, last]} of one table.
+     */
+    private long writeChunks(SeedPlan plan, AtomicLong nextChunk, long chunksPerTable, long rowsPerChunk)
+            throws SQLException {
+        long chunks = chunksPerTable * plan.tables();
+        long written = 0;
+        Map<Integer, PreparedStatement> inserts = new HashMap<>();
+        try (Connection connection = primary.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                for (long chunk = nextChunk.getAndIncrement(); chunk < chunks; chunk = nextChunk.getAndIncrement()) {
+                    int table = (int) (chunk / chunksPerTable) + 1;
+                    long first = (chunk % chunksPerTable) * rowsPerChunk + 1;
+                    long last = Math.min(first + rowsPerChunk - 1, plan.rowsPerTable());
+                    PreparedStatement insert = inserts.get(table);
+                    if (insert == null) {
+                        insert = connection.prepareStatement(
+                                "INSERT INTO " + plan.table(table) + " (id, k, payload) VALUES (?, ?, ?)");
+                        inserts.put(table, insert);
+                    }
+                    written += writeChunk(connection, insert, plan, first, last);
+                }
+            } finally {
+                for (PreparedStatement insert : inserts.values()) {
+                    insert.close();
+                }
+            }
+        }
+        return written;
+    }
+
+    private static long writeChunk(Connection connection, PreparedStatement insert, SeedPlan plan, long first,
+                                   long last) throws SQLException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        byte[] payload = new byte[plan.rowSize()];
+        try {
+            int batched = 0;
+            for (long id = first; id <= last; id++) {
+                random.nextBytes(payload);
+                insert.setLong(1, id);
+                insert.setInt(2, random.nextInt(Integer.MAX_VALUE));
+                insert.setBytes(3, payload);
+                insert.addBatch();
+                if (++batched == plan.rowsPerStatement()) {
+                    insert.executeBatch();
+                    batched = 0;
+                }
+            }
+            if (batched > 0) {
+                insert.executeBatch();
+            }
+            connection.commit();
+            return last - first + 1;
+        } catch (SQLException e) {
+            insert.clearBatch();
+            connection.rollback();
+            throw e;
+        }
+    }
+
+    /**
+     * Waits for the certification and applier queues of every member to empty, so flow control has let go of the
+     * primary, and then for every member to hold the same gtid_executed.
+     */
+    private GtidConvergence.Report settle(long deadline, Duration timeout)
+            throws SQLException, InterruptedException, TimeoutException {
+        while (true) {
+            Map<String, MemberStats> stats = AsyncMySQLServer.await(
+                    AsyncMySQLServer.allMembers(members, MySQLServer::getLocalMemberStats));
+            if (stats.values().stream().allMatch(DataSeeder::isIdle)) {
+                break;
+            }
+            if (System.nanoTime() > deadline) {
+                throw new TimeoutException("Queues still not empty after " + timeout + ": " + stats);
+            }
+            Thread.sleep(SETTLE_POLL.toMillis());
+        }
+        Duration remaining = Duration.ofNanos(Math.max(0, deadline - System.nanoTime()));
+        GtidConvergence.Report report = GtidConvergence.await(members, remaining);
+        if (!report.isConverged()) {
+            throw new TimeoutException(report.toString());
+        }
+        return report;
+    }
+
+    private static boolean isIdle(MemberStats stats) {
+        return stats != null && stats.transactionsInQueue() == 0 && stats.remoteInApplierQueue() == 0;
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.mysqlgroupreplicationtestcontainers.load;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * How writers pick among the {@link #keys()} hot keys shared by every member. Keys are ranks: with a skewed
+ * distribution key 0 is the hottest and popularity falls with the rank, so hotspots show up in the lowest key ranges.
+ */
+public interface KeyDistribution {
+
+    int keys();
+
+    /**
+     * A key in {@code [0, keys())}.
+     */
+    int next(RandomGenerator random);
+
+    static KeyDistribution uniform(int keys) {
+        return new Uniform(keys);
+    }
+
+    /**
+     * Zipfian distribution with exponent {@code theta} in {@code [0, 1)}: 0 is uniform, values close to 1 send most
+     * writes to a handful of keys (0.99 is the YCSB default).
+     */
+    static KeyDistribution zipfian(int keys, double theta) {
+        return new Zipfian(keys, theta);
+    }
+
+    record Uniform(int keys) implements KeyDistribution {
+
+        public Uniform {
+            if (keys < 1) {
+                throw new IllegalArgumentException("keys must be positive, got " + keys);
+            }
+        }
+
+        @Override
+        public int next(RandomGenerator random) {
+            return random.nextInt(keys);
+        }
+
+        @Override
+        public String toString() {
+            return "uniform(" + keys + ")";
+        }
+    }
+
+    /**
+     * Gray et al.'s "Quickly generating billion-record synthetic databases" generator, as used by YCSB: constant time
+     * per key after computing the zeta constant once, which is linear in the number of keys.
+     */
+    final class Zipfian implements KeyDistribution {
+        private final int keys;
+        private final double theta;
+        private final double zetan;
+        private final double alpha;
+        private final double eta;
+
+        Zipfian(int keys, double theta) {
+            if (keys < 1) {
+                throw new IllegalArgumentException("keys must be positive, got " + keys);
+            }
+            if (theta < 0 || theta >= 1) {
+                throw new IllegalArgumentException("theta must be in [0, 1), got " + theta);
+            }
+            this.keys = keys;
+            this.theta = theta;
+            this.zetan = zeta(keys, theta);
+            this.alpha = 1 / (1 - theta);
+            this.eta = (1 - Math.pow(2.0 / keys, 1 - theta)) / (1 - zeta(2, theta) / zetan);
+        }
+
+        @Override
+        public int keys() {
+            return keys;
+        }
+
+        public double theta() {
+            return theta;
+        }
+
+        @Override
+        public int next(RandomGenerator random) {
+            if (keys == 1) {
+                return 0;
+            }
+            double u = random.nextDouble();
+            double uz = u * zetan;
+            if (uz < 1) {
+                return 0;
+            }
+            if (uz < 1 + Math.pow(0.5, theta)) {
+                return 1;
+            }
+            return (int) Math.min(keys - 1, (long) (keys * Math.pow(eta * u - eta + 1, alpha)));
+        }
+
+        private static double zeta(int n, double theta) {
+            double sum = 0;
+            for (int i = 1; i <= n; i++) {
+                sum += 1 / Math.pow(i, theta);
+            }
+            return sum;
+        }
+
+        @Override
+        public String toString() {
+            return "zipfian(" + keys + ", " + theta + ")";
+        }
+    }
+}
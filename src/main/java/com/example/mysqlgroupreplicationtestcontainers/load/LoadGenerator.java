@@ -0,0 +1,332 @@
+package com.example.mysqlgroupreplicationtestcontainers.load;
+
+import com.example.mysqlgroupreplicationtestcontainers.AsyncMySQLServer;
+import com.example.mysqlgroupreplicationtestcontainers.ConnectionPool;
+import com.example.mysqlgroupreplicationtestcontainers.ConnectionPoolException;
+import com.example.mysqlgroupreplicationtestcontainers.MySQLServer;
+import com.example.mysqlgroupreplicationtestcontainers.SetupScript;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs {@link LoadProfile#threads()} writers against every target member for {@link LoadProfile#duration()} and
+ * records per-member throughput and commit latency. Each writer is a virtual thread blocked on its own connection,
+ * so every target's pool must hold at least {@link LoadProfile#threads()} connections. A writer whose connection breaks
+ * takes a new one from the pool, backing off from 10 ms up to 1 s while the member stays unreachable; each outage
+ * counts as one error.
+ * Rows are upserted into {@value #TABLE} and, with {@link LoadProfile#tables()} above one, its numbered siblings, so
+ * writers that pick the same hot key on different primaries produce certification conflicts in multi-primary groups.
+ * Those conflicts are broken down by table and hot key range in {@link LoadResult#hotspots()}.
+ */
+@Slf4j
+public class LoadGenerator {
+    public static final String SCHEMA = "loadgen";
+    public static final String TABLE = SCHEMA + ".load_rows";
+    static final int ER_TRANSACTION_ROLLBACK_DURING_COMMIT = 3101;
+    private static final int HOTSPOT_RANGES_PER_TABLE = 16;
+    private static final long HIGHEST_TRACKABLE_MICROS = Duration.ofMinutes(5).toNanos() / 1_000;
+    private static final Duration MIN_BACKOFF = Duration.ofMillis(10);
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(1);
+    private static final String UPSERT = "INSERT INTO %s (id, member, payload) VALUES (?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE member = VALUES(member), payload = VALUES(payload)";
+
+    private final List<MySQLServer> targets;
+    private final LoadProfile profile;
+
+    public LoadGenerator(List<MySQLServer> targets, LoadProfile profile) {
+        if (targets.isEmpty()) {
+            throw new IllegalArgumentException("At least one target member is required");
+        }
+        for (MySQLServer target : targets) {
+            int poolSize = target.getConnectionPool().getSettings().maximumPoolSize();
+            if (profile.threads() > poolSize) {
+                // Writers hold their connection for the whole run, so the surplus would only time out.
+                throw new IllegalArgumentException(String.format("%d writers need as many connections, but the pool "
+                        + "of %s holds %d", profile.threads(), target.getHostName(), poolSize));
+            }
+        }
+        this.targets = List.copyOf(targets);
+        this.profile = profile;
+    }
+
+    /**
+     * Name of the load table with the given zero-based index; the first one is {@value #TABLE}.
+     */
+    public static String table(int index) {
+        return index == 0 ? TABLE : TABLE + "_" + (index + 1);
+    }
+
+    /**
+     * Creates the load tables through the first target and empties them.
+     */
+    public void prepare() throws SQLException {
+        List<String> statements = new ArrayList<>();
+        statements.add("CREATE DATABASE IF NOT EXISTS " + SCHEMA);
+        for (int table = 0; table < profile.tables(); table++) {
+            statements.add("CREATE TABLE IF NOT EXISTS " + table(table) + " (id BIGINT NOT NULL PRIMARY KEY, " +
+                    "member VARCHAR(64) NOT NULL, payload VARBINARY(" + profile.rowSize() + ") NOT NULL, " +
+                    "updated_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6))");
+            statements.add("TRUNCATE TABLE " + table(table));
+        }
+        targets.get(0).runSetupScript(SetupScript.of(statements.toArray(String[]::new)));
+    }
+
+    public LoadResult run() throws SQLException {
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            long deadline = System.nanoTime() + profile.duration().toNanos();
+            Map<MySQLServer, List<Future<Writer>>> futures = new LinkedHashMap<>();
+            for (int memberIndex = 0; memberIndex < targets.size(); memberIndex++) {
+                MySQLServer target = targets.get(memberIndex);
+                List<Future<Writer>> writers = new ArrayList<>();
+                for (int thread = 0; thread < profile.threads(); thread++) {
+                    Writer writer = new Writer(target, keyPrefix(memberIndex, thread));
+                    writers.add(executor.submit(() -> writer.run(deadline)));
+                }
+                futures.put(target, writers);
+            }
+
+            Map<String, MemberLoadResult> results = new LinkedHashMap<>();
+            ConflictHotspots hotspots = newHotspots();
+            for (Map.Entry<MySQLServer, List<Future<Writer>>> entry : futures.entrySet()) {
+                results.put(entry.getKey().getHostName(), merge(entry.getKey(), entry.getValue(), hotspots));
+            }
+            LoadResult result = new LoadResult(results, hotspots);
+            results.values().forEach(member -> log.info("{}", member));
+            if (result.certificationConflicts() > 0) {
+                log.info("{}", hotspots);
+            }
+            return result;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private MemberLoadResult merge(MySQLServer target, List<Future<Writer>> futures, ConflictHotspots hotspots)
+            throws SQLException {
+        Histogram latency = newHistogram();
+        long transactions = 0, rows = 0, conflicts = 0, errors = 0, elapsed = 0;
+        for (Future<Writer> future : futures) {
+            Writer writer = AsyncMySQLServer.await(future);
+            latency.add(writer.latency);
+            hotspots.add(writer.hotspots);
+            transactions += writer.transactions;
+            rows += writer.rows;
+            conflicts += writer.conflicts;
+            errors += writer.errors;
+            elapsed = Math.max(elapsed, writer.elapsedNanos);
+        }
+        return new MemberLoadResult(target.getHostName(), transactions, rows, conflicts, errors, latency,
+                Duration.ofNanos(elapsed));
+    }
+
+    /**
+     * Private keys live above the hot key range: member index in the high bits, writer index below it.
+     */
+    private static long keyPrefix(int memberIndex, int thread) {
+        return ((long) (memberIndex + 1) << 48) | ((long) thread << 32);
+    }
+
+    static boolean isCertificationConflict(SQLException e) {
+        return e.getErrorCode() == ER_TRANSACTION_ROLLBACK_DURING_COMMIT;
+    }
+
+    private static Histogram newHistogram() {
+        return new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+    }
+
+    private ConflictHotspots newHotspots() {
+        return new ConflictHotspots(profile, HOTSPOT_RANGES_PER_TABLE);
+    }
+
+    private class Writer {
+        private final MySQLServer target;
+        private final long keyPrefix;
+        private final byte[] payload = new byte[profile.rowSize()];
+        private final Histogram latency = newHistogram();
+        private final ConflictHotspots hotspots = newHotspots();
+        private final int[] hotBuckets = new int[profile.batchSize()];
+        private int hotRows;
+        private long sequence, transactions, rows, conflicts, errors, elapsedNanos;
+        private long backoffNanos = MIN_BACKOFF.toNanos();
+        private boolean inOutage;
+
+        Writer(MySQLServer target, long keyPrefix) {
+            this.target = target;
+            this.keyPrefix = keyPrefix;
+        }
+
+        Writer run(long deadline) throws SQLException {
+            long start = System.nanoTime();
+            try {
+                while (isRunning(deadline)) {
+                    Exception failure;
+                    try (Connection connection = target.getConnection()) {
+                        writeUntil(connection, deadline);
+                        continue;
+                    } catch (SQLException e) {
+                        if (!ConnectionPool.isConnectionFailure(e)) {
+                            throw e;
+                        }
+                        failure = e;
+                    } catch (ConnectionPoolException e) {
+                        failure = e;
+                    }
+                    if (!inOutage) {
+                        inOutage = true;
+                        errors++;
+                        log.debug("Lost connection to {}, reconnecting: {}", target.getHostName(),
+                                failure.getMessage());
+                    }
+                    if (!backOff(deadline)) {
+                        break;
+                    }
+                }
+            } finally {
+                elapsedNanos = System.nanoTime() - start;
+            }
+            return this;
+        }
+
+        /**
+         * Writes on the connection until the deadline. Transactions that fail for other reasons than a broken
+         * connection are counted and the loop goes on; a connection failure is rethrown so a new connection is taken.
+         */
+        private void writeUntil(Connection connection, long deadline) throws SQLException {
+            PreparedStatement[] upserts = new PreparedStatement[profile.tables()];
+            boolean[] batched = new boolean[profile.tables()];
+            try {
+                connection.setAutoCommit(false);
+                for (int table = 0; table < upserts.length; table++) {
+                    upserts[table] = connection.prepareStatement(String.format(UPSERT, table(table)));
+                }
+                while (isRunning(deadline)) {
+                    long begin = System.nanoTime();
+                    hotRows = 0;
+                    try {
+                        for (int i = 0; i < profile.batchSize(); i++) {
+                            ThreadLocalRandom.current().nextBytes(payload);
+                            int table = addRow(upserts);
+                            batched[table] = true;
+                        }
+                        for (int table = 0; table < upserts.length; table++) {
+                            if (batched[table]) {
+                                upserts[table].executeBatch();
+                                batched[table] = false;
+                            }
+                        }
+                        connection.commit();
+                        latency.recordValue(Math.min((System.nanoTime() - begin) / 1_000, HIGHEST_TRACKABLE_MICROS));
+                        hotspots.record(hotBuckets, hotRows, false);
+                        transactions++;
+                        rows += profile.batchSize();
+                        inOutage = false;
+                        backoffNanos = MIN_BACKOFF.toNanos();
+                    } catch (SQLException e) {
+                        if (ConnectionPool.isConnectionFailure(e)) {
+                            throw e;
+                        }
+                        for (int table = 0; table < upserts.length; table++) {
+                            upserts[table].clearBatch();
+                            batched[table] = false;
+                        }
+                        rollbackQuietly(connection);
+                        if (isCertificationConflict(e)) {
+                            hotspots.record(hotBuckets, hotRows, true);
+                            conflicts++;
+                        } else {
+                            errors++;
+                            log.debug("Write on {} failed: {}", target.getHostName(), e.getMessage());
+                        }
+                    }
+                }
+            } finally {
+                for (PreparedStatement upsert : upserts) {
+                    closeQuietly(upsert);
+                }
+            }
+        }
+
+        /**
+         * Sleeps for the current backoff, capped at the deadline, and doubles it. Returns false when interrupted.
+         */
+        private boolean backOff(long deadline) {
+            long pause = Math.min(backoffNanos, deadline - System.nanoTime());
+            backoffNanos = Math.min(backoffNanos * 2, MAX_BACKOFF.toNanos());
+            if (pause <= 0) {
+                return true;
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(pause);
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        private boolean isRunning(long deadline) {
+            return System.nanoTime() < deadline && !Thread.currentThread().isInterrupted();
+        }
+
+        /**
+         * Adds one row to the batch of its table and returns the table's index. Hot key {@code k} is row
+         * {@code k / tables} of table {@code k % tables}; private keys rotate through the tables the same way.
+         */
+        private int addRow(PreparedStatement[] upserts) throws SQLException {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int tables = upserts.length;
+            int table;
+            long id;
+            if (profile.conflictRatio() > 0 && random.nextDouble() < profile.conflictRatio()) {
+                int key = profile.keyDistribution().next(random);
+                table = key % tables;
+                id = key / tables;
+                hotBuckets[hotRows++] = hotspots.bucket(table, id);
+            } else {
+                long key = sequence++;
+                table = (int) (key % tables);
+                id = keyPrefix | key;
+            }
+            PreparedStatement upsert = upserts[table];
+            upsert.setLong(1, id);
+            upsert.setString(2, target.getHostName());
+            upsert.setBytes(3, payload);
+            upsert.addBatch();
+            return table;
+        }
+
+        private void closeQuietly(PreparedStatement upsert) {
+            if (upsert == null) {
+                return;
+            }
+            try {
+                upsert.close();
+            } catch (SQLException e) {
+                log.debug("Closing a statement on {} failed: {}", target.getHostName(), e.getMessage());
+            }
+        }
+
+        private void rollbackQuietly(Connection connection) {
+            try {
+                connection.rollback();
+            } catch (SQLException e) {
+                log.debug("Rollback on {} failed: {}", target.getHostName(), e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.mysqlgroupreplicationtestcontainers.load;
+
+import java.time.Duration;
+
+/**
+ * Shape of the write load: {@code threads} writers per target member, each committing transactions of
+ * {@code batchSize} rows with a {@code rowSize}-byte payload spread over {@code tables} tables. A
+ * {@code conflictRatio} share of the rows hits one of the hot keys shared by every writer, picked by
+ * {@code keyDistribution}; the rest use keys private to the writer.
+ */
+public record LoadProfile(int threads, int rowSize, int batchSize, double conflictRatio,
+                          KeyDistribution keyDistribution, int tables, Duration duration) {
+
+    public LoadProfile {
+        if (threads < 1 || rowSize < 1 || batchSize < 1 || tables < 1) {
+            throw new IllegalArgumentException("threads, rowSize, batchSize and tables must be positive");
+        }
+        if (conflictRatio < 0 || conflictRatio > 1) {
+            throw new IllegalArgumentException("conflictRatio must be between 0 and 1, got " + conflictRatio);
+        }
+    }
+
+    public static LoadProfile of(int threads, Duration duration) {
+        return new LoadProfile(threads, 256, 1, 0, KeyDistribution.uniform(1), 1, duration);
+    }
+
+    public int hotKeys() {
+        return keyDistribution.keys();
+    }
+
+    public LoadProfile withRowSize(int rowSize) {
+        return new LoadProfile(threads, rowSize, batchSize, conflictRatio, keyDistribution, tables, duration);
+    }
+
+    public LoadProfile withBatchSize(int batchSize) {
+        return new LoadProfile(threads, rowSize, batchSize, conflictRatio, keyDistribution, tables, duration);
+    }
+
+    /**
+     * Hot keys picked uniformly.
+     */
+    public LoadProfile withConflicts(double conflictRatio, int hotKeys) {
+        return withConflicts(conflictRatio, KeyDistribution.uniform(hotKeys));
+    }
+
+    public LoadProfile withConflicts(double conflictRatio, KeyDistribution keyDistribution) {
+        return new LoadProfile(threads, rowSize, batchSize, conflictRatio, keyDistribution, tables, duration);
+    }
+
+    /**
+     * Hot key {@code k} lives in table {@code k % tables}, so with a skewed distribution the first tables are the
+     * hottest.
+     */
+    public LoadProfile withTables(int tables) {
+        return new LoadProfile(threads, rowSize, batchSize, conflictRatio, keyDistribution, tables, duration);
+    }
+}
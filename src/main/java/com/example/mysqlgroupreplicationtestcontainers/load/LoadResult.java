@@ -0,0 +1,30 @@
+package com.example.mysqlgroupreplicationtestcontainers.load;
+
+import java.util.Map;
+
+/**
+ * Per-member results of a run, keyed by host, and where the certification conflicts happened.
+ */
+public record LoadResult(Map<String, MemberLoadResult> members, ConflictHotspots hotspots) {
+
+    public double transactionsPerSecond() {
+        return members.values().stream().mapToDouble(MemberLoadResult::transactionsPerSecond).sum();
+    }
+
+    public long certificationConflicts() {
+        return members.values().stream().mapToLong(MemberLoadResult::certificationConflicts).sum();
+    }
+
+    /**
+     * Share of the group's commit attempts that lost certification.
+     */
+    public double conflictRate() {
+        long conflicts = certificationConflicts();
+        long attempts = conflicts + members.values().stream().mapToLong(MemberLoadResult::transactions).sum();
+        return attempts == 0 ? 0 : (double) conflicts / attempts;
+    }
+
+    public long errors() {
+        return members.values().stream().mapToLong(MemberLoadResult::errors).sum();
+    }
+}
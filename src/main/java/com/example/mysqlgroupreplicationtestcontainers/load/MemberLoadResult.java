@@ -0,0 +1,33 @@
+package com.example.mysqlgroupreplicationtestcontainers.load;
+
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+
+/**
+ * What one target member achieved during a run. {@code latency} holds commit latencies of successful transactions in
+ * microseconds; {@code certificationConflicts} counts transactions the group rolled back at commit.
+ */
+public record MemberLoadResult(String host, long transactions, long rows, long certificationConflicts, long errors,
+                               Histogram latency, Duration elapsed) {
+
+    public double transactionsPerSecond() {
+        return elapsed.isZero() ? 0 : transactions * 1_000_000_000.0 / elapsed.toNanos();
+    }
+
+    public double conflictRate() {
+        long attempts = transactions + certificationConflicts;
+        return attempts == 0 ? 0 : (double) certificationConflicts / attempts;
+    }
+
+    public long latencyPercentileMicros(double percentile) {
+        return latency.getValueAtPercentile(percentile);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %.1f tps, %d txs, %d conflicts (%.2f%%), %d errors, latency us p50=%d p99=%d max=%d",
+                host, transactionsPerSecond(), transactions, certificationConflicts, conflictRate() * 100, errors,
+                latency.getValueAtPercentile(50), latency.getValueAtPercentile(99), latency.getMaxValue());
+    }
+}
@@ -0,0 +1,214 @@
+package com.example.mysqlgroupreplicationtestcontainers.load;
+
+import com.example.mysqlgroupreplicationtestcontainers.MySQLServer;
+import com.example.mysqlgroupreplicationtestcontainers.SetupScript;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures commit-to-visible delay for every (writer, reader) pair. Each writer inserts a numbered heartbeat row at a
+ * fixed rate and remembers when its commit returned; every other member is polled for the highest heartbeat it can
+ * see. All times are taken on this JVM's monotonic clock, never on the servers', so container clock skew does not
+ * matter, and the resolution is bounded by the poll interval. Every pair measures against the writer's own commit
+ * time; a heartbeat seen before its commit call returned counts as zero delay once that time is known, and one whose
+ * commit call failed is not counted.
+ */
+@Slf4j
+public class ReplicationLatencyProbe {
+    public static final String TABLE = LoadGenerator.SCHEMA + ".heartbeat";
+    private static final long HIGHEST_TRACKABLE_MICROS = Duration.ofMinutes(5).toNanos() / 1_000;
+    private static final int ER_DUP_ENTRY = 1062;
+    private static final int MAX_PENDING = 10_000;
+
+    public record Result(Map<String, Histogram> pairs) {
+
+        public static String pair(MySQLServer writer, MySQLServer reader) {
+            return writer.getHostName() + "->" + reader.getHostName();
+        }
+
+        public Histogram get(MySQLServer writer, MySQLServer reader) {
+            return pairs.get(pair(writer, reader));
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder();
+            pairs.forEach((pair, histogram) -> builder.append(String.format(
+                    "%s: n=%d commit-to-visible us p50=%d p95=%d p99=%d max=%d%n", pair,
+                    histogram.getTotalCount(), histogram.getValueAtPercentile(50),
+                    histogram.getValueAtPercentile(95), histogram.getValueAtPercentile(99),
+                    histogram.getMaxValue())));
+            return builder.toString();
+        }
+    }
+
+    private final List<MySQLServer> writers;
+    private final List<MySQLServer> members;
+    private final Duration writeInterval;
+    private final Duration pollInterval;
+    private final Map<String, Map<Long, Long>> commitTimes = new ConcurrentHashMap<>();
+
+    /**
+     * @param writers members heartbeats are written on: the primary, or every primary in multi-primary mode
+     * @param members members whose visibility is measured
+     */
+    public ReplicationLatencyProbe(List<MySQLServer> writers, List<MySQLServer> members, Duration writeInterval,
+                                   Duration pollInterval) {
+        this.writers = List.copyOf(writers);
+        this.members = List.copyOf(members);
+        this.writeInterval = writeInterval;
+        this.pollInterval = pollInterval;
+    }
+
+    public void prepare() throws SQLException {
+        writers.get(0).runSetupScript(SetupScript.of(
+                "CREATE DATABASE IF NOT EXISTS " + LoadGenerator.SCHEMA,
+                "CREATE TABLE IF NOT EXISTS " + TABLE + " (writer VARCHAR(64) NOT NULL, seq BIGINT NOT NULL, " +
+                        "PRIMARY KEY (writer, seq))",
+                "TRUNCATE TABLE " + TABLE));
+    }
+
+    public Result run(Duration duration) throws InterruptedException {
+        Map<String, Histogram> pairs = new LinkedHashMap<>();
+        List<Runnable> tasks = new ArrayList<>();
+        List<Duration> periods = new ArrayList<>();
+
+        for (MySQLServer writer : writers) {
+            commitTimes.put(writer.getHostName(), new ConcurrentHashMap<>());
+            tasks.add(new HeartbeatWriter(writer)::writeNext);
+            periods.add(writeInterval);
+        }
+        for (MySQLServer writer : writers) {
+            for (MySQLServer reader : members) {
+                if (reader == writer) {
+                    continue;
+                }
+                Histogram histogram = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+                pairs.put(Result.pair(writer, reader), histogram);
+                tasks.add(new VisibilityPoller(writer, reader, histogram)::poll);
+                periods.add(pollInterval);
+            }
+        }
+
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(tasks.size(),
+                Thread.ofVirtual().name("latency-probe-", 0).factory());
+        try {
+            for (int i = 0; i < tasks.size(); i++) {
+                scheduler.scheduleAtFixedRate(tasks.get(i), 0, periods.get(i).toNanos(), TimeUnit.NANOSECONDS);
+            }
+            Thread.sleep(duration.toMillis());
+        } finally {
+            scheduler.shutdown();
+            scheduler.awaitTermination(pollInterval.toMillis() + writeInterval.toMillis(), TimeUnit.MILLISECONDS);
+            scheduler.shutdownNow();
+        }
+        Result result = new Result(pairs);
+        log.info("Replication latency:\n{}", result);
+        return result;
+    }
+
+    private class HeartbeatWriter {
+        private final MySQLServer writer;
+        private final Map<Long, Long> committed;
+        private long sequence;
+
+        HeartbeatWriter(MySQLServer writer) {
+            this.writer = writer;
+            this.committed = commitTimes.get(writer.getHostName());
+        }
+
+        void writeNext() {
+            long seq = sequence + 1;
+            try (Connection connection = writer.getConnection();
+                 PreparedStatement ps = connection.prepareStatement(
+                         "INSERT INTO " + TABLE + " (writer, seq) VALUES (?, ?)")) {
+                ps.setString(1, writer.getHostName());
+                ps.setLong(2, seq);
+                ps.executeUpdate();
+                committed.put(seq, System.nanoTime());
+                sequence = seq;
+            } catch (SQLException | RuntimeException e) {
+                if (e instanceof SQLException sqlException && sqlException.getErrorCode() == ER_DUP_ENTRY) {
+                    // An earlier attempt committed even though the call failed; its commit time is unknown.
+                    sequence = seq;
+                }
+                log.debug("Heartbeat {} on {} failed: {}", seq, writer.getHostName(), e.getMessage());
+            }
+        }
+    }
+
+    private class VisibilityPoller {
+        private final MySQLServer writer;
+        private final MySQLServer reader;
+        private final Histogram histogram;
+        private final Map<Long, Long> committed;
+        private final Map<Long, Long> seenBeforeCommit = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+                return size() > MAX_PENDING;
+            }
+        };
+        private long lastSeen;
+
+        VisibilityPoller(MySQLServer writer, MySQLServer reader, Histogram histogram) {
+            this.writer = writer;
+            this.reader = reader;
+            this.histogram = histogram;
+            this.committed = commitTimes.get(writer.getHostName());
+        }
+
+        void poll() {
+            try (Connection connection = reader.getConnection();
+                 PreparedStatement ps = connection.prepareStatement(
+                         "SELECT COALESCE(MAX(seq), 0) FROM " + TABLE + " WHERE writer = ?")) {
+                ps.setString(1, writer.getHostName());
+                try (ResultSet rs = ps.executeQuery()) {
+                    rs.next();
+                    record(rs.getLong(1), System.nanoTime());
+                }
+            } catch (SQLException | RuntimeException e) {
+                log.debug("Polling {} for {} failed: {}", reader.getHostName(), writer.getHostName(), e.getMessage());
+            }
+        }
+
+        private void record(long visible, long now) {
+            // Rows seen before the writer's commit call returned are settled once the commit time is known; those
+            // whose commit call failed never are, and stay behind until MAX_PENDING newer ones push them out.
+            seenBeforeCommit.entrySet().removeIf(entry -> {
+                Long commitTime = committed.get(entry.getKey());
+                if (commitTime == null) {
+                    return false;
+                }
+                recordDelay(entry.getValue() - commitTime);
+                return true;
+            });
+            for (long seq = lastSeen + 1; seq <= visible; seq++) {
+                Long commitTime = committed.get(seq);
+                if (commitTime == null) {
+                    seenBeforeCommit.put(seq, now);
+                } else {
+                    recordDelay(now - commitTime);
+                }
+            }
+            lastSeen = Math.max(lastSeen, visible);
+        }
+
+        private void recordDelay(long nanos) {
+            histogram.recordValue(Math.min(Math.max(0, nanos / 1_000), HIGHEST_TRACKABLE_MICROS));
+        }
+    }
+}
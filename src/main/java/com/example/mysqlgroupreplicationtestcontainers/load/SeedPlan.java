@@ -0,0 +1,46 @@
+package com.example.mysqlgroupreplicationtestcontainers.load;
+
+/**
+ * What {@link DataSeeder} creates: {@code tables} tables named {@code seed_1..n} in {@code schema}, each with
+ * {@code rowsPerTable} rows carrying a {@code rowSize}-byte payload. Rows are written by {@code writers} concurrent
+ * connections as multi-row INSERTs of {@code rowsPerStatement} rows, committing every
+ * {@code statementsPerTransaction} statements so no transaction comes near group_replication_transaction_size_limit.
+ */
+public record SeedPlan(String schema, int tables, long rowsPerTable, int rowSize, int rowsPerStatement,
+                       int statementsPerTransaction, int writers) {
+
+    public SeedPlan {
+        if (tables < 1 || rowsPerTable < 1 || rowSize < 1 || rowsPerStatement < 1 || statementsPerTransaction < 1
+                || writers < 1) {
+            throw new IllegalArgumentException("tables, rowsPerTable, rowSize, rowsPerStatement, "
+                    + "statementsPerTransaction and writers must be positive");
+        }
+    }
+
+    public static SeedPlan of(String schema, int tables, long rowsPerTable) {
+        return new SeedPlan(schema, tables, rowsPerTable, 128, 1000, 10, 8);
+    }
+
+    public SeedPlan withRowSize(int rowSize) {
+        return new SeedPlan(schema, tables, rowsPerTable, rowSize, rowsPerStatement, statementsPerTransaction,
+                writers);
+    }
+
+    public SeedPlan withStatements(int rowsPerStatement, int statementsPerTransaction) {
+        return new SeedPlan(schema, tables, rowsPerTable, rowSize, rowsPerStatement, statementsPerTransaction,
+                writers);
+    }
+
+    public SeedPlan withWriters(int writers) {
+        return new SeedPlan(schema, tables, rowsPerTable, rowSize, rowsPerStatement, statementsPerTransaction,
+                writers);
+    }
+
+    public String table(int index) {
+        return schema + ".seed_" + index;
+    }
+
+    public long totalRows() {
+        return tables * rowsPerTable;
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.mysqlgroupreplicationtestcontainers.stats;
+
+import com.example.mysqlgroupreplicationtestcontainers.MySQLServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Measures how fast a secondary applies a backlog. {@link #hold()} stops the member's group replication applier
+ * thread so the transactions it receives pile up in its relay log; {@link #drain(Duration)} restarts it and polls
+ * performance_schema.replication_group_member_stats until the applier queue is empty.
+ */
+@Slf4j
+public class ApplierDrainProbe {
+
+    public record Result(String host, int workers, long backlog, Duration drainTime) {
+
+        /**
+         * Transactions applied per second while draining.
+         */
+        public double applyRate() {
+            return drainTime.isZero() ? 0 : backlog * 1_000_000_000.0 / drainTime.toNanos();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: %d workers applied %d transactions in %d ms (%.1f tx/s)", host, workers,
+                    backlog, drainTime.toMillis(), applyRate());
+        }
+    }
+
+    private final MySQLServer secondary;
+    private final Duration pollInterval;
+
+    public ApplierDrainProbe(MySQLServer secondary, Duration pollInterval) {
+        this.secondary = secondary;
+        this.pollInterval = pollInterval;
+    }
+
+    public void hold() throws SQLException {
+        secondary.stopApplier(MySQLServer.GROUP_REPLICATION_APPLIER);
+    }
+
+    public Result drain(Duration timeout) throws SQLException, InterruptedException, TimeoutException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        // Let certification hand everything already received over to the applier queue first.
+        MemberStats before = secondary.getLocalMemberStats();
+        while (before.transactionsInQueue() > 0) {
+            checkDeadline(deadline, timeout);
+            Thread.sleep(pollInterval.toMillis());
+            before = secondary.getLocalMemberStats();
+        }
+        int workers = Integer.parseInt(secondary.getGlobalVariable("replica_parallel_workers"));
+
+        long start = System.nanoTime();
+        secondary.startApplier(MySQLServer.GROUP_REPLICATION_APPLIER);
+        MemberStats stats = secondary.getLocalMemberStats();
+        while (stats.remoteInApplierQueue() > 0) {
+            checkDeadline(deadline, timeout);
+            Thread.sleep(pollInterval.toMillis());
+            stats = secondary.getLocalMemberStats();
+        }
+        Result result = new Result(secondary.getHostName(), workers, stats.remoteApplied() - before.remoteApplied(),
+                Duration.ofNanos(System.nanoTime() - start));
+        log.info("{}", result);
+        return result;
+    }
+
+    private static void checkDeadline(long deadline, Duration timeout) throws TimeoutException {
+        if (System.nanoTime() > deadline) {
+            throw new TimeoutException("Applier queue not drained within " + timeout);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.mysqlgroupreplicationtestcontainers.stats;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * One worker row of performance_schema.replication_applier_status_by_worker. Timestamps are read as epoch microseconds
+ * so the zero date the server reports for "no transaction yet" maps to null instead of failing the driver.
+ */
+public record ApplierWorkerStatus(String channelName, long workerId, String lastAppliedTransaction,
+                                  Instant lastAppliedOriginalCommit, Instant lastAppliedImmediateCommit,
+                                  Instant lastAppliedStartApply, Instant lastAppliedEndApply,
+                                  String applyingTransaction, Instant applyingOriginalCommit,
+                                  Instant applyingStartApply, Instant sampledAt) {
+
+    public static final String QUERY = "SELECT CHANNEL_NAME, WORKER_ID, LAST_APPLIED_TRANSACTION, " +
+            micros("LAST_APPLIED_TRANSACTION_ORIGINAL_COMMIT_TIMESTAMP") + ", " +
+            micros("LAST_APPLIED_TRANSACTION_IMMEDIATE_COMMIT_TIMESTAMP") + ", " +
+            micros("LAST_APPLIED_TRANSACTION_START_APPLY_TIMESTAMP") + ", " +
+            micros("LAST_APPLIED_TRANSACTION_END_APPLY_TIMESTAMP") + ", " +
+            "APPLYING_TRANSACTION, " +
+            micros("APPLYING_TRANSACTION_ORIGINAL_COMMIT_TIMESTAMP") + ", " +
+            micros("APPLYING_TRANSACTION_START_APPLY_TIMESTAMP") + ", " +
+            "CAST(UNIX_TIMESTAMP(NOW(6)) * 1000000 AS UNSIGNED) AS SAMPLED_AT " +
+            "FROM performance_schema.replication_applier_status_by_worker WHERE CHANNEL_NAME = ?";
+
+    public static ApplierWorkerStatus create(ResultSet rs) throws SQLException {
+        return new ApplierWorkerStatus(
+                rs.getString("CHANNEL_NAME"),
+                rs.getLong("WORKER_ID"),
+                rs.getString("LAST_APPLIED_TRANSACTION"),
+                instant(rs, "LAST_APPLIED_TRANSACTION_ORIGINAL_COMMIT_TIMESTAMP"),
+                instant(rs, "LAST_APPLIED_TRANSACTION_IMMEDIATE_COMMIT_TIMESTAMP"),
+                instant(rs, "LAST_APPLIED_TRANSACTION_START_APPLY_TIMESTAMP"),
+                instant(rs, "LAST_APPLIED_TRANSACTION_END_APPLY_TIMESTAMP"),
+                rs.getString("APPLYING_TRANSACTION"),
+                instant(rs, "APPLYING_TRANSACTION_ORIGINAL_COMMIT_TIMESTAMP"),
+                instant(rs, "APPLYING_TRANSACTION_START_APPLY_TIMESTAMP"),
+                instant(rs, "SAMPLED_AT"));
+    }
+
+    public boolean isApplying() {
+        return applyingTransaction != null && !applyingTransaction.isEmpty();
+    }
+
+    /**
+     * How far this worker is behind the originating commit: the age of the transaction being applied, or the
+     * commit-to-apply delay of the last one when the worker is idle.
+     */
+    public Duration applyLag() {
+        if (isApplying() && applyingOriginalCommit != null) {
+            return Duration.between(applyingOriginalCommit, sampledAt);
+        }
+        if (lastAppliedOriginalCommit != null && lastAppliedEndApply != null) {
+            return Duration.between(lastAppliedOriginalCommit, lastAppliedEndApply);
+        }
+        return Duration.ZERO;
+    }
+
+    static String micros(String column) {
+        return "CAST(UNIX_TIMESTAMP(" + column + ") * 1000000 AS UNSIGNED) AS " + column;
+    }
+
+    static Instant instant(ResultSet rs, String column) throws SQLException {
+        long micros = rs.getLong(column);
+        if (micros <= 0) {
+            return null;
+        }
+        return Instant.ofEpochSecond(micros / 1_000_000, (micros % 1_000_000) * 1_000);
+    }
+}
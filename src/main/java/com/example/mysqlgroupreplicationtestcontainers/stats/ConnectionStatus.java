@@ -0,0 +1,40 @@
+package com.example.mysqlgroupreplicationtestcontainers.stats;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+
+import static com.example.mysqlgroupreplicationtestcontainers.stats.ApplierWorkerStatus.instant;
+import static com.example.mysqlgroupreplicationtestcontainers.stats.ApplierWorkerStatus.micros;
+
+/**
+ * The last-queued part of a performance_schema.replication_connection_status row: the transaction most recently
+ * written to the channel's relay log, when it was committed on its originating and immediate source, and when queueing
+ * started and ended on this member. For the group_replication_applier channel queueing starts once the transaction
+ * has passed certification.
+ */
+public record ConnectionStatus(String channelName, String lastQueuedTransaction, Instant lastQueuedOriginalCommit,
+                               Instant lastQueuedImmediateCommit, Instant lastQueuedStartQueue,
+                               Instant lastQueuedEndQueue) {
+
+    public static final String QUERY = "SELECT CHANNEL_NAME, LAST_QUEUED_TRANSACTION, " +
+            micros("LAST_QUEUED_TRANSACTION_ORIGINAL_COMMIT_TIMESTAMP") + ", " +
+            micros("LAST_QUEUED_TRANSACTION_IMMEDIATE_COMMIT_TIMESTAMP") + ", " +
+            micros("LAST_QUEUED_TRANSACTION_START_QUEUE_TIMESTAMP") + ", " +
+            micros("LAST_QUEUED_TRANSACTION_END_QUEUE_TIMESTAMP") + " " +
+            "FROM performance_schema.replication_connection_status WHERE CHANNEL_NAME = ?";
+
+    public static ConnectionStatus create(ResultSet rs) throws SQLException {
+        return new ConnectionStatus(
+                rs.getString("CHANNEL_NAME"),
+                rs.getString("LAST_QUEUED_TRANSACTION"),
+                instant(rs, "LAST_QUEUED_TRANSACTION_ORIGINAL_COMMIT_TIMESTAMP"),
+                instant(rs, "LAST_QUEUED_TRANSACTION_IMMEDIATE_COMMIT_TIMESTAMP"),
+                instant(rs, "LAST_QUEUED_TRANSACTION_START_QUEUE_TIMESTAMP"),
+                instant(rs, "LAST_QUEUED_TRANSACTION_END_QUEUE_TIMESTAMP"));
+    }
+
+    public boolean hasQueued() {
+        return lastQueuedTransaction != null && !lastQueuedTransaction.isEmpty();
+    }
+}
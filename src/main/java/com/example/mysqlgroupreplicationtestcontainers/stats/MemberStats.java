@@ -0,0 +1,34 @@
+package com.example.mysqlgroupreplicationtestcontainers.stats;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * One row of performance_schema.replication_group_member_stats.
+ */
+public record MemberStats(String memberId, String viewId, long transactionsInQueue, long transactionsChecked,
+                          long conflictsDetected, long transactionsRowsValidating,
+                          String transactionsCommittedAllMembers, long remoteInApplierQueue, long remoteApplied,
+                          long localProposed, long localRollback) {
+
+    public static final String QUERY = "SELECT MEMBER_ID, VIEW_ID, COUNT_TRANSACTIONS_IN_QUEUE, " +
+            "COUNT_TRANSACTIONS_CHECKED, COUNT_CONFLICTS_DETECTED, COUNT_TRANSACTIONS_ROWS_VALIDATING, " +
+            "TRANSACTIONS_COMMITTED_ALL_MEMBERS, COUNT_TRANSACTIONS_REMOTE_IN_APPLIER_QUEUE, " +
+            "COUNT_TRANSACTIONS_REMOTE_APPLIED, COUNT_TRANSACTIONS_LOCAL_PROPOSED, COUNT_TRANSACTIONS_LOCAL_ROLLBACK " +
+            "FROM performance_schema.replication_group_member_stats";
+
+    public static MemberStats create(ResultSet rs) throws SQLException {
+        return new MemberStats(
+                rs.getString("MEMBER_ID"),
+                rs.getString("VIEW_ID"),
+                rs.getLong("COUNT_TRANSACTIONS_IN_QUEUE"),
+                rs.getLong("COUNT_TRANSACTIONS_CHECKED"),
+                rs.getLong("COUNT_CONFLICTS_DETECTED"),
+                rs.getLong("COUNT_TRANSACTIONS_ROWS_VALIDATING"),
+                rs.getString("TRANSACTIONS_COMMITTED_ALL_MEMBERS"),
+                rs.getLong("COUNT_TRANSACTIONS_REMOTE_IN_APPLIER_QUEUE"),
+                rs.getLong("COUNT_TRANSACTIONS_REMOTE_APPLIED"),
+                rs.getLong("COUNT_TRANSACTIONS_LOCAL_PROPOSED"),
+                rs.getLong("COUNT_TRANSACTIONS_LOCAL_ROLLBACK"));
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.mysqlgroupreplicationtestcontainers.stats;
+
+import com.example.mysqlgroupreplicationtestcontainers.MySQLServer;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Publishes each member's own replication_group_member_stats row and its applier lag as Micrometer meters tagged with
+ * the member host. Meters read the latest sample; {@link #sample()} or {@link #start(Duration)} refreshes it.
+ */
+@Slf4j
+public class ReplicationMetrics implements AutoCloseable {
+
+    record Sample(MemberStats stats, Duration applyLag) {
+        static final Sample EMPTY = new Sample(
+                new MemberStats(null, null, 0, 0, 0, 0, null, 0, 0, 0, 0), Duration.ZERO);
+    }
+
+    private record Member(MySQLServer server, AtomicReference<Sample> latest) {
+    }
+
+    private final List<Member> members = new ArrayList<>();
+    private ScheduledExecutorService scheduler;
+
+    public ReplicationMetrics(MeterRegistry registry, List<MySQLServer> servers) {
+        for (MySQLServer server : servers) {
+            Member member = new Member(server, new AtomicReference<>(Sample.EMPTY));
+            members.add(member);
+            register(registry, member);
+        }
+    }
+
+    private static void register(MeterRegistry registry, Member member) {
+        Tags tags = Tags.of("member", member.server().getHostName());
+        AtomicReference<Sample> latest = member.latest();
+
+        gauge(registry, "gr.queue.certification", "Transactions waiting for conflict detection", tags, latest,
+                sample -> sample.stats().transactionsInQueue());
+        gauge(registry, "gr.queue.applier", "Remote transactions waiting in the applier queue", tags, latest,
+                sample -> sample.stats().remoteInApplierQueue());
+        gauge(registry, "gr.certification.rows.validating", "Rows in the certification database", tags, latest,
+                sample -> sample.stats().transactionsRowsValidating());
+        TimeGauge.builder("gr.apply.lag", latest, TimeUnit.MILLISECONDS,
+                        ref -> ref.get().applyLag().toNanos() / 1_000_000.0)
+                .description("Delay between the original commit and its apply on this member")
+                .tags(tags)
+                .register(registry);
+
+        counter(registry, "gr.transactions.checked", "Transactions checked for conflicts", tags, latest,
+                sample -> sample.stats().transactionsChecked());
+        counter(registry, "gr.transactions.conflicts", "Transactions that failed certification", tags, latest,
+                sample -> sample.stats().conflictsDetected());
+        counter(registry, "gr.transactions.applied", "Remote transactions applied", tags, latest,
+                sample -> sample.stats().remoteApplied());
+        counter(registry, "gr.transactions.local.proposed", "Local transactions sent to the group", tags, latest,
+                sample -> sample.stats().localProposed());
+        counter(registry, "gr.transactions.local.rollback", "Local transactions rolled back by the group", tags,
+                latest, sample -> sample.stats().localRollback());
+    }
+
+    private static void gauge(MeterRegistry registry, String name, String description, Tags tags,
+                              AtomicReference<Sample> latest, ToDoubleFunction<Sample> value) {
+        Gauge.builder(name, latest, ref -> value.applyAsDouble(ref.get()))
+                .description(description)
+                .tags(tags)
+                .register(registry);
+    }
+
+    private static void counter(MeterRegistry registry, String name, String description, Tags tags,
+                                AtomicReference<Sample> latest, ToDoubleFunction<Sample> value) {
+        FunctionCounter.builder(name, latest, ref -> value.applyAsDouble(ref.get()))
+                .description(description)
+                .tags(tags)
+                .register(registry);
+    }
+
+    /**
+     * Reads every member once. A member that cannot be read keeps its previous sample.
+     */
+    public void sample() {
+        for (Member member : members) {
+            try {
+                MemberStats stats = member.server().getLocalMemberStats();
+                if (stats == null) {
+                    continue;
+                }
+                Duration lag = Duration.ZERO;
+                for (ApplierWorkerStatus worker :
+                        member.server().getApplierWorkerStatus(MySQLServer.GROUP_REPLICATION_APPLIER)) {
+                    Duration workerLag = worker.applyLag();
+                    if (workerLag.compareTo(lag) > 0) {
+                        lag = workerLag;
+                    }
+                }
+                member.latest().set(new Sample(stats, lag));
+            } catch (Exception e) {
+                log.warn("Could not sample replication stats from {}: {}", member.server().getHostName(),
+                        e.getMessage());
+            }
+        }
+    }
+
+    public synchronized void start(Duration interval) {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replication-metrics");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::sample, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.example.mysqlgroupreplicationtestcontainers.stats;
+
+import com.example.mysqlgroupreplicationtestcontainers.MySQLServer;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Breaks the commit-to-apply delay of remote transactions into stages, from the timestamps replication keeps for the
+ * group_replication_applier channel on every member:
+ * <ul>
+ *     <li>network and certification: from the original commit until the member starts queueing the transaction
+ *     (performance_schema.replication_connection_status),</li>
+ *     <li>relay log: from the start of queueing until a worker starts applying it, which includes waiting behind
+ *     other transactions for the coordinator and a free worker,</li>
+ *     <li>apply: from start to end of apply (performance_schema.replication_applier_status_by_worker).</li>
+ * </ul>
+ * Both tables only hold the <em>last</em> transaction, so every member is polled and a transaction is counted when
+ * it is seen both as last queued and, in a later or the same poll, as some worker's last applied. Under load that is
+ * a sample of the transactions, denser with a shorter poll interval. Timestamps come from the members' clocks, which
+ * containers share with their host; stages that come out negative are counted as zero.
+ */
+@Slf4j
+public class ReplicationStageCollector implements AutoCloseable {
+    private static final long HIGHEST_TRACKABLE_MICROS = Duration.ofMinutes(5).toNanos() / 1_000;
+    private static final int MAX_PENDING = 10_000;
+    private static final String CHANNEL = MySQLServer.GROUP_REPLICATION_APPLIER;
+
+    public enum Stage {
+        NETWORK_AND_CERTIFICATION, RELAY_LOG, APPLY, END_TO_END
+    }
+
+    /**
+     * Stage latency distributions of one member, in microseconds.
+     */
+    public record StageLatencies(String host, Map<Stage, Histogram> stages) {
+
+        public Histogram get(Stage stage) {
+            return stages.get(stage);
+        }
+
+        public long samples() {
+            return stages.get(Stage.END_TO_END).getTotalCount();
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder(String.format("%s: n=%d", host, samples()));
+            stages.forEach((stage, histogram) -> builder.append(String.format(" | %s us p50=%d p99=%d max=%d",
+                    stage.name().toLowerCase(Locale.ROOT).replace('_', '-'), histogram.getValueAtPercentile(50),
+                    histogram.getValueAtPercentile(99), histogram.getMaxValue())));
+            return builder.toString();
+        }
+    }
+
+    public record Result(Map<String, StageLatencies> members) {
+
+        public StageLatencies get(MySQLServer member) {
+            return members.get(member.getHostName());
+        }
+
+        /**
+         * All members' samples merged.
+         */
+        public StageLatencies combined() {
+            Map<Stage, Histogram> stages = newStages();
+            for (StageLatencies member : members.values()) {
+                member.stages().forEach((stage, histogram) -> stages.get(stage).add(histogram));
+            }
+            return new StageLatencies("group", stages);
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder();
+            members.values().forEach(member -> builder.append(member).append(System.lineSeparator()));
+            return builder.append(combined()).toString();
+        }
+    }
+
+    private final List<MemberPoller> pollers = new ArrayList<>();
+    private final Duration pollInterval;
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * @param members members whose applier channel is sampled; members that originate every transaction, like a
+     *                single primary, simply contribute no samples
+     */
+    public ReplicationStageCollector(List<MySQLServer> members, Duration pollInterval) {
+        for (MySQLServer member : members) {
+            pollers.add(new MemberPoller(member));
+        }
+        this.pollInterval = pollInterval;
+    }
+
+    public synchronized void start() {
+        if (scheduler != null) {
+            throw new IllegalStateException("Collector already started");
+        }
+        scheduler = Executors.newScheduledThreadPool(pollers.size(),
+                Thread.ofVirtual().name("stage-collector-", 0).factory());
+        for (MemberPoller poller : pollers) {
+            scheduler.scheduleAtFixedRate(poller::poll, 0, pollInterval.toNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Stops polling and returns what was collected.
+     */
+    public Result stop() throws InterruptedException {
+        close();
+        Map<String, StageLatencies> members = new LinkedHashMap<>();
+        for (MemberPoller poller : pollers) {
+            members.put(poller.member.getHostName(), new StageLatencies(poller.member.getHostName(), poller.stages));
+        }
+        Result result = new Result(members);
+        log.info("Replication stages:\n{}", result);
+        return result;
+    }
+
+    @Override
+    public synchronized void close() throws InterruptedException {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdown();
+        if (!scheduler.awaitTermination(pollInterval.toMillis() + 1_000, TimeUnit.MILLISECONDS)) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private static Map<Stage, Histogram> newStages() {
+        Map<Stage, Histogram> stages = new LinkedHashMap<>();
+        for (Stage stage : Stage.values()) {
+            stages.put(stage, new Histogram(HIGHEST_TRACKABLE_MICROS, 3));
+        }
+        return stages;
+    }
+
+    private static void record(Histogram histogram, Instant from, Instant to) {
+        long micros = Math.max(0, Duration.between(from, to).toNanos() / 1_000);
+        histogram.recordValue(Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+    }
+
+    private static class MemberPoller {
+        private final MySQLServer member;
+        private final Map<Stage, Histogram> stages = newStages();
+        private final Map<String, ConnectionStatus> queued = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ConnectionStatus> eldest) {
+                return size() > MAX_PENDING;
+            }
+        };
+
+        MemberPoller(MySQLServer member) {
+            this.member = member;
+        }
+
+        void poll() {
+            try {
+                ConnectionStatus connection = member.getConnectionStatus(CHANNEL);
+                if (connection != null && connection.hasQueued() && connection.lastQueuedOriginalCommit() != null
+                        && connection.lastQueuedStartQueue() != null) {
+                    queued.putIfAbsent(connection.lastQueuedTransaction(), connection);
+                }
+                for (ApplierWorkerStatus worker : member.getApplierWorkerStatus(CHANNEL)) {
+                    match(worker);
+                }
+            } catch (SQLException | RuntimeException e) {
+                log.debug("Sampling replication stages on {} failed: {}", member.getHostName(), e.getMessage());
+            }
+        }
+
+        private void match(ApplierWorkerStatus worker) {
+            String gtid = worker.lastAppliedTransaction();
+            if (gtid == null || gtid.isEmpty() || worker.lastAppliedStartApply() == null
+                    || worker.lastAppliedEndApply() == null) {
+                return;
+            }
+            ConnectionStatus connection = queued.remove(gtid);
+            if (connection == null) {
+                return;
+            }
+            record(stages.get(Stage.NETWORK_AND_CERTIFICATION), connection.lastQueuedOriginalCommit(),
+                    connection.lastQueuedStartQueue());
+            record(stages.get(Stage.RELAY_LOG), connection.lastQueuedStartQueue(), worker.lastAppliedStartApply());
+            record(stages.get(Stage.APPLY), worker.lastAppliedStartApply(), worker.lastAppliedEndApply());
+            record(stages.get(Stage.END_TO_END), connection.lastQueuedOriginalCommit(), worker.lastAppliedEndApply());
+        }
+    }
+}
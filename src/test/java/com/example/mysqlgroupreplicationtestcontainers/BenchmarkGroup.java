@@ -0,0 +1,38 @@
+package com.example.mysqlgroupreplicationtestcontainers;
+
+import com.example.mysqlgroupreplicationtestcontainers.GroupReplicationCluster.Topology;
+
+import java.time.Duration;
+import java.util.function.UnaryOperator;
+
+/**
+ * The group every benchmark runs against: a fresh cluster of the requested shape, started and with every member
+ * ONLINE. The caller owns the returned cluster and closes it; a cluster that fails to start is stopped here.
+ */
+final class BenchmarkGroup {
+    static final String DOCKER_IMAGE = "mysql:8.0";
+    static final Duration JOIN_TIMEOUT = Duration.ofMinutes(1);
+
+    private BenchmarkGroup() {
+    }
+
+    static GroupReplicationCluster start(int memberCount, Topology topology) throws Exception {
+        return start(memberCount, topology, UnaryOperator.identity());
+    }
+
+    /**
+     * @param options applied to the cluster before its containers are created, e.g. to set its configuration
+     */
+    static GroupReplicationCluster start(int memberCount, Topology topology,
+                                         UnaryOperator<GroupReplicationCluster> options) throws Exception {
+        GroupReplicationCluster cluster = options.apply(
+                new GroupReplicationCluster(DOCKER_IMAGE, memberCount, topology));
+        try {
+            cluster.startGroup(JOIN_TIMEOUT);
+        } catch (Exception e) {
+            cluster.close();
+            throw e;
+        }
+        return cluster;
+    }
+}
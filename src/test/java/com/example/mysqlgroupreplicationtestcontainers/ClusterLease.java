@@ -0,0 +1,35 @@
+package com.example.mysqlgroupreplicationtestcontainers;
+
+import java.util.List;
+
+/**
+ * A running, ONLINE group borrowed from the {@link ClusterPool}. Closing the lease resets the group and hands it back.
+ */
+public final class ClusterLease implements AutoCloseable {
+    private final ClusterPool pool;
+    private final ClusterPool.Key key;
+    private final GroupReplicationCluster cluster;
+    private boolean closed;
+
+    ClusterLease(ClusterPool pool, ClusterPool.Key key, GroupReplicationCluster cluster) {
+        this.pool = pool;
+        this.key = key;
+        this.cluster = cluster;
+    }
+
+    public GroupReplicationCluster getCluster() {
+        return cluster;
+    }
+
+    public List<MySQLServer> getNodes() {
+        return cluster.getNodes();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (!closed) {
+            closed = true;
+            pool.release(key, cluster);
+        }
+    }
+}
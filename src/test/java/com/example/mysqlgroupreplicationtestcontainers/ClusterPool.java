@@ -0,0 +1,148 @@
+package com.example.mysqlgroupreplicationtestcontainers;
+
+import com.example.mysqlgroupreplicationtestcontainers.GroupReplicationCluster.Topology;
+import com.example.mysqlgroupreplicationtestcontainers.groupmember.GroupMember;
+import com.example.mysqlgroupreplicationtestcontainers.gtid.GtidConvergence;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * JVM-wide pool of running groups shared by test classes. A lease hands out an idle group for the key or starts a new
+ * one, restored from snapshot images when the storage profile keeps data on the container filesystem; returning it
+ * drops every user schema through a primary and checks that all members are ONLINE with the same gtid_executed. Groups
+ * that fail the reset are stopped instead of being reused. Users, grants and global variables changed during a lease
+ * are not reset.
+ */
+@Slf4j
+public final class ClusterPool {
+
+    public record Key(String dockerImage, int memberCount, Topology topology, MemberConfiguration configuration,
+                      StorageProfile storage) {
+
+        public Key(String dockerImage, int memberCount, Topology topology) {
+            this(dockerImage, memberCount, topology, MemberConfiguration.defaults(), StorageProfile.durable());
+        }
+
+        public Key withStorage(StorageProfile storage) {
+            return new Key(dockerImage, memberCount, topology, configuration, storage);
+        }
+    }
+
+    static final Set<String> SYSTEM_SCHEMAS = Set.of("mysql", "information_schema", "performance_schema", "sys");
+    private static final Duration START_TIMEOUT = Duration.ofMinutes(3);
+    private static final Duration CONVERGENCE_TIMEOUT = Duration.ofSeconds(30);
+    private static final ClusterPool SHARED = new ClusterPool();
+
+    private final Map<Key, Deque<GroupReplicationCluster>> idle = new HashMap<>();
+    private final List<GroupReplicationCluster> clusters = new ArrayList<>();
+
+    private ClusterPool() {
+        Runtime.getRuntime().addShutdownHook(new Thread(this::stopAll, "cluster-pool-shutdown"));
+    }
+
+    public static ClusterPool shared() {
+        return SHARED;
+    }
+
+    public ClusterLease lease(String dockerImage, int memberCount, Topology topology) throws Exception {
+        return lease(new Key(dockerImage, memberCount, topology));
+    }
+
+    public ClusterLease lease(Key key) throws Exception {
+        GroupReplicationCluster cluster;
+        synchronized (this) {
+            cluster = idle.computeIfAbsent(key, k -> new ArrayDeque<>()).poll();
+        }
+        if (cluster == null) {
+            cluster = new GroupReplicationCluster(key.dockerImage(), key.memberCount(), key.topology())
+                    .withConfiguration(key.configuration())
+                    .withStorageProfile(key.storage());
+            if (!key.storage().isEphemeral()) {
+                cluster.withSnapshotReuse();
+            }
+            try {
+                cluster.startGroup(START_TIMEOUT);
+            } catch (Exception e) {
+                cluster.stop();
+                throw e;
+            }
+            synchronized (this) {
+                clusters.add(cluster);
+            }
+            log.info("Started a new {}-member {} group for the pool", key.memberCount(), key.topology());
+        }
+        return new ClusterLease(this, key, cluster);
+    }
+
+    void release(Key key, GroupReplicationCluster cluster) {
+        try {
+            reset(cluster);
+        } catch (Exception e) {
+            log.warn("Discarding group that could not be reset: {}", e.getMessage());
+            synchronized (this) {
+                clusters.remove(cluster);
+            }
+            cluster.stop();
+            return;
+        }
+        synchronized (this) {
+            idle.computeIfAbsent(key, k -> new ArrayDeque<>()).push(cluster);
+        }
+    }
+
+    static void reset(GroupReplicationCluster cluster) throws SQLException {
+        MySQLServer primary = findPrimary(cluster.getNodes());
+        List<String> drops = new ArrayList<>();
+        for (String schema : primary.showDatabases()) {
+            if (!SYSTEM_SCHEMAS.contains(schema)) {
+                drops.add("DROP DATABASE `" + schema + "`");
+            }
+        }
+        if (!drops.isEmpty()) {
+            primary.runSetupScript(SetupScript.of(drops.toArray(String[]::new)));
+        }
+        awaitConsistentGtidExecuted(cluster.getNodes());
+    }
+
+    private static MySQLServer findPrimary(List<MySQLServer> nodes) throws SQLException {
+        Map<String, GroupMember> members = nodes.get(0).getPerformanceSchemaReplicationGroupMembers();
+        if (members.size() != nodes.size()) {
+            throw new SQLException("Expected " + nodes.size() + " members in the group, found " + members.size());
+        }
+        for (GroupMember member : members.values()) {
+            if (!member.isOnline()) {
+                throw new SQLException(member.host() + " is " + member.state());
+            }
+        }
+        for (MySQLServer node : nodes) {
+            if (members.get(node.getHostName()).isPrimary()) {
+                return node;
+            }
+        }
+        throw new SQLException("No PRIMARY member in the group");
+    }
+
+    private static void awaitConsistentGtidExecuted(List<MySQLServer> nodes) throws SQLException {
+        GtidConvergence.Report report = GtidConvergence.await(nodes, CONVERGENCE_TIMEOUT);
+        if (!report.isConverged()) {
+            throw new SQLException(report.toString());
+        }
+    }
+
+    private synchronized void stopAll() {
+        for (GroupReplicationCluster cluster : clusters) {
+            cluster.stop();
+        }
+        clusters.clear();
+        idle.clear();
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.mysqlgroupreplicationtestcontainers;
+
+import com.example.mysqlgroupreplicationtestcontainers.GroupReplicationCluster.Topology;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@Testcontainers
+class ClusterPoolTest {
+
+	private static final ClusterPool.Key KEY = new ClusterPool.Key("mysql:8.0", 3, Topology.SINGLE_PRIMARY)
+			.withStorage(StorageProfile.fast());
+	private static final String SCHEMA = "Leased";
+
+	@Test
+	void releasedGroupIsResetAndReused() throws Exception {
+		GroupReplicationCluster leased;
+		Map<String, String> startedAt;
+		try (ClusterLease lease = ClusterPool.shared().lease(KEY)) {
+			leased = lease.getCluster();
+			startedAt = startedAt(leased);
+			leased.getNode(leased.findPrimary()).createDatabase(SCHEMA);
+		}
+
+		try (ClusterLease lease = ClusterPool.shared().lease(KEY)) {
+			assertSame(leased, lease.getCluster(), "Released group was not reused");
+			assertEquals(startedAt, startedAt(lease.getCluster()), "Containers were restarted");
+			AsyncMySQLServer.await(lease.getCluster().allMembers(MySQLServer::showDatabases)).forEach((host, databases) ->
+					assertFalse(databases.contains(SCHEMA), SCHEMA + " was not dropped on " + host));
+		}
+	}
+
+	private static Map<String, String> startedAt(GroupReplicationCluster cluster) {
+		Map<String, String> startedAt = new LinkedHashMap<>();
+		for (MySQLContainer<?> container : cluster.getContainers()) {
+			startedAt.put(container.getContainerId(), DockerClientFactory.instance().client()
+					.inspectContainerCmd(container.getContainerId()).exec().getState().getStartedAt());
+		}
+		return startedAt;
+	}
+}
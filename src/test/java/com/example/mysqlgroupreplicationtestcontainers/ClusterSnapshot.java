@@ -0,0 +1,147 @@
+package com.example.mysqlgroupreplicationtestcontainers;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.exception.ConflictException;
+import com.github.dockerjava.api.exception.NotFoundException;
+import com.github.dockerjava.api.model.Image;
+import lombok.extern.slf4j.Slf4j;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Committed images of a bootstrapped group, one per member, tagged {@code gr-snapshot:<key>-<server id>}. The key is a
+ * hash of everything that shapes the members (image and command lines), so a change in configuration never restores
+ * a stale group. The official image declares {@code /var/lib/mysql} as a volume, which {@code docker commit} skips,
+ * so snapshot-capable members keep their data in {@link #DATADIR} instead.
+ * <p>
+ * The images outlive the test run on purpose, so they are labelled out of the resource reaper's session. Capturing
+ * keeps the {@value #MAX_SNAPSHOTS} most recent snapshots and removes older ones; the README shows how to purge all of
+ * them.
+ */
+@Slf4j
+final class ClusterSnapshot {
+    static final String REPOSITORY = "gr-snapshot";
+    static final String DATADIR = "/var/lib/mysql-gr";
+    static final int MAX_SNAPSHOTS = 8;
+    private static final int SHUTDOWN_TIMEOUT_SECONDS = 120;
+
+    private final String key;
+
+    ClusterSnapshot(List<String> identity) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(String.join("\n", identity).getBytes(StandardCharsets.UTF_8));
+            this.key = HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    DockerImageName image(int id) {
+        return DockerImageName.parse(REPOSITORY + ":" + key + "-" + id).asCompatibleSubstituteFor("mysql");
+    }
+
+    boolean exists(int memberCount) {
+        DockerClient client = DockerClientFactory.instance().client();
+        for (int id = 1; id <= memberCount; id++) {
+            try {
+                client.inspectImageCmd(image(id).asCanonicalNameString()).exec();
+            } catch (NotFoundException e) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Commits every container as this snapshot's member images. Group replication should be stopped on all members
+     * first so every data directory holds the same GTID set. Each container is stopped for its commit, so mysqld shuts
+     * down cleanly instead of leaving a crash image to recover, and started again afterwards; Docker gives it a new
+     * host port, see {@link GroupReplicationCluster#reconnect(int)}. Images the commit replaces are removed, and so
+     * are the oldest snapshots beyond {@value #MAX_SNAPSHOTS}.
+     */
+    void capture(List<MySQLContainer<?>> containers) {
+        DockerClient client = DockerClientFactory.instance().client();
+        for (int i = 0; i < containers.size(); i++) {
+            DockerImageName image = image(i + 1);
+            String containerId = containers.get(i).getContainerId();
+            String replaced = imageId(client, image);
+            client.stopContainerCmd(containerId).withTimeout(SHUTDOWN_TIMEOUT_SECONDS).exec();
+            try {
+                client.commitCmd(containerId)
+                        .withRepository(image.getRepository())
+                        .withTag(image.getVersionPart())
+                        // The committed image inherits the container's session label, which would let the resource
+                        // reaper delete it at the end of this run; prune() and MAX_SNAPSHOTS bound what is kept.
+                        .withLabels(Map.of(DockerClientFactory.TESTCONTAINERS_SESSION_ID_LABEL, REPOSITORY))
+                        .exec();
+            } finally {
+                client.startContainerCmd(containerId).exec();
+            }
+            if (replaced != null) {
+                remove(client, replaced);
+            }
+            log.info("Captured {}", image.asCanonicalNameString());
+        }
+        prune(MAX_SNAPSHOTS);
+    }
+
+    /**
+     * Removes the images of all but the {@code keep} most recently captured snapshots in {@link #REPOSITORY}. Images
+     * a container still runs on are left in place.
+     */
+    static void prune(int keep) {
+        DockerClient client = DockerClientFactory.instance().client();
+        Map<String, Long> createdByKey = new HashMap<>();
+        Map<String, List<String>> tagsByKey = new HashMap<>();
+        for (Image image : client.listImagesCmd().withImageNameFilter(REPOSITORY).exec()) {
+            for (String repoTag : image.getRepoTags() == null ? new String[0] : image.getRepoTags()) {
+                if (!repoTag.startsWith(REPOSITORY + ":")) {
+                    continue;
+                }
+                String key = keyOf(repoTag.substring(REPOSITORY.length() + 1));
+                createdByKey.merge(key, image.getCreated(), Math::max);
+                tagsByKey.computeIfAbsent(key, k -> new ArrayList<>()).add(repoTag);
+            }
+        }
+        createdByKey.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .skip(keep)
+                .forEach(stale -> tagsByKey.get(stale.getKey()).forEach(repoTag -> remove(client, repoTag)));
+    }
+
+    /**
+     * The snapshot key of a {@code <key>-<server id>} tag.
+     */
+    static String keyOf(String tag) {
+        int separator = tag.lastIndexOf('-');
+        return separator < 0 ? tag : tag.substring(0, separator);
+    }
+
+    private static String imageId(DockerClient client, DockerImageName image) {
+        try {
+            return client.inspectImageCmd(image.asCanonicalNameString()).exec().getId();
+        } catch (NotFoundException e) {
+            return null;
+        }
+    }
+
+    private static void remove(DockerClient client, String image) {
+        try {
+            client.removeImageCmd(image).exec();
+            log.info("Removed snapshot image {}", image);
+        } catch (ConflictException | NotFoundException e) {
+            log.warn("Could not remove snapshot image {}: {}", image, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.mysqlgroupreplicationtestcontainers;
+
+import com.example.mysqlgroupreplicationtestcontainers.GroupReplicationCluster.Topology;
+import com.example.mysqlgroupreplicationtestcontainers.groupmember.GroupMember;
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.exception.NotFoundException;
+import com.github.dockerjava.api.model.Image;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Slf4j
+@Testcontainers
+class ClusterSnapshotTest {
+
+	private static final String DOCKER_IMAGE = "mysql:8.0";
+	private static final int MEMBER_COUNT = 3;
+	private static final String HOSTNAME_PREFIX = "snapshot";
+	private static final Duration JOIN_TIMEOUT = Duration.ofMinutes(1);
+
+	@Test
+	void secondStartRestoresTheCapturedGroup() throws Exception {
+		try (GroupReplicationCluster first = newCluster()) {
+			first.startGroup(JOIN_TIMEOUT);
+			log.info("First start restored from snapshot: {}", first.isRestoredFromSnapshot());
+		}
+
+		try (GroupReplicationCluster second = newCluster()) {
+			second.startGroup(JOIN_TIMEOUT);
+
+			assertTrue(second.isRestoredFromSnapshot(), "Second start bootstrapped from scratch");
+			for (MySQLContainer<?> container : second.getContainers()) {
+				assertTrue(container.getDockerImageName().startsWith(ClusterSnapshot.REPOSITORY + ":"),
+						container.getDockerImageName() + " is not a snapshot image");
+			}
+			for (MySQLServer node : second.getNodes()) {
+				assertEquals(ClusterSnapshot.DATADIR, node.getGlobalVariable("datadir").replaceAll("/$", ""));
+			}
+
+			Map<String, GroupMember> members = second.getNode(0).getPerformanceSchemaReplicationGroupMembers();
+			assertEquals(MEMBER_COUNT, members.size());
+			members.values().forEach(member -> assertTrue(member.isOnline(), member.host() + " is " + member.state()));
+		}
+	}
+
+	@Test
+	void captureReplacesItsOwnImagesAndPrunesStaleSnapshots() {
+		DockerClient client = DockerClientFactory.instance().client();
+		ClusterSnapshot snapshot = new ClusterSnapshot(List.of(DOCKER_IMAGE, "capture-" + UUID.randomUUID()));
+		String captured = snapshot.image(1).asCanonicalNameString();
+		String stale = ClusterSnapshot.REPOSITORY + ":stale0-1";
+		try (MySQLContainer<?> container = new MySQLContainer<>(DOCKER_IMAGE)) {
+			container.start();
+			snapshot.capture(List.of(container));
+			String first = client.inspectImageCmd(captured).exec().getId();
+
+			snapshot.capture(List.of(container));
+			assertTrue(container.isRunning(), "Container was not started again after the commit");
+			assertNotEquals(first, client.inspectImageCmd(captured).exec().getId());
+			assertThrows(NotFoundException.class, () -> client.inspectImageCmd(first).exec(),
+					"Replaced image was left behind");
+
+			// Tagged on the base image, so older than any captured snapshot.
+			client.tagImageCmd(DOCKER_IMAGE, ClusterSnapshot.REPOSITORY, "stale0-1").exec();
+			ClusterSnapshot.prune(snapshotKeys(client).size() - 1);
+			assertThrows(NotFoundException.class, () -> client.inspectImageCmd(stale).exec(),
+					"Oldest snapshot was not pruned");
+			assertTrue(snapshotKeys(client).contains(ClusterSnapshot.keyOf(snapshot.image(1).getVersionPart())),
+					"Newest snapshot was pruned");
+		} finally {
+			removeQuietly(client, captured);
+			removeQuietly(client, stale);
+		}
+	}
+
+	private static Set<String> snapshotKeys(DockerClient client) {
+		Set<String> keys = new HashSet<>();
+		for (Image image : client.listImagesCmd().withImageNameFilter(ClusterSnapshot.REPOSITORY).exec()) {
+			for (String repoTag : image.getRepoTags()) {
+				keys.add(ClusterSnapshot.keyOf(repoTag.substring(ClusterSnapshot.REPOSITORY.length() + 1)));
+			}
+		}
+		return keys;
+	}
+
+	private static void removeQuietly(DockerClient client, String image) {
+		try {
+			client.removeImageCmd(image).exec();
+		} catch (NotFoundException e) {
+			log.debug("{} already removed", image);
+		}
+	}
+
+	private static GroupReplicationCluster newCluster() {
+		return new GroupReplicationCluster(DOCKER_IMAGE, MEMBER_COUNT, Topology.SINGLE_PRIMARY, HOSTNAME_PREFIX)
+				.withSnapshotReuse();
+	}
+}
@@ -0,0 +1,52 @@
+package com.example.mysqlgroupreplicationtestcontainers;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ConnectionPoolTest {
+
+	private static final String URL = "jdbc:h2:mem:connection-pool-test;DB_CLOSE_DELAY=-1";
+	private static final ConnectionPoolSettings SETTINGS = ConnectionPoolSettings.defaults()
+			.withPoolSize(1, 1)
+			.withConnectionTimeout(Duration.ofMillis(250));
+
+	private ConnectionPool pool;
+
+	@BeforeEach
+	void createPool() {
+		pool = new ConnectionPool("test", URL, "sa", "", SETTINGS);
+	}
+
+	@AfterEach
+	void closePool() {
+		pool.close();
+	}
+
+	@Test
+	void exhaustedPoolTimesOutOnAcquisition() throws SQLException {
+		try (Connection held = pool.getConnection()) {
+			ConnectionAcquisitionTimeoutException e = assertThrows(ConnectionAcquisitionTimeoutException.class,
+					pool::getConnection);
+			assertEquals(1, e.getActive());
+		}
+	}
+
+	@Test
+	void bindingTwiceToTheSameRegistryIsIgnored() {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		pool.bindTo(registry);
+
+		assertDoesNotThrow(() -> pool.bindTo(registry));
+		assertThrows(IllegalStateException.class, () -> pool.bindTo(new SimpleMeterRegistry()));
+	}
+}
@@ -0,0 +1,59 @@
+package com.example.mysqlgroupreplicationtestcontainers;
+
+import com.example.mysqlgroupreplicationtestcontainers.GroupReplicationCluster.Topology;
+import com.example.mysqlgroupreplicationtestcontainers.RecoveryHarness.RecoveryTimings;
+import com.example.mysqlgroupreplicationtestcontainers.load.DataSeeder;
+import com.example.mysqlgroupreplicationtestcontainers.load.SeedPlan;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Takes a secondary out of the group, loads the rest of the group with a dataset of the given size and times the
+ * secondary's way back in through each recovery method.
+ */
+@Slf4j
+@Tag("benchmark")
+@Testcontainers
+class DistributedRecoveryBenchmarkTest {
+
+	private static final int MEMBER_COUNT = 3;
+	private static final Duration SEED_TIMEOUT = Duration.ofMinutes(10);
+	private static final Duration RECOVERY_TIMEOUT = Duration.ofMinutes(20);
+
+	@ParameterizedTest
+	@CsvSource({
+			"INCREMENTAL, 100000", "CLONE, 100000",
+			"INCREMENTAL, 1000000", "CLONE, 1000000",
+			"INCREMENTAL, 5000000", "CLONE, 5000000"})
+	void rejoinLoadedGroup(RecoveryMethod method, long rows) throws Exception {
+		try (GroupReplicationCluster cluster = BenchmarkGroup.start(MEMBER_COUNT, Topology.SINGLE_PRIMARY,
+				GroupReplicationCluster::withCloneRecovery)) {
+			cluster.enableClone();
+			int primaryIndex = cluster.findPrimary();
+			int joinerIndex = (primaryIndex + 1) % MEMBER_COUNT;
+			cluster.getNode(joinerIndex).stopGroupReplication();
+
+			List<MySQLServer> group = new ArrayList<>(cluster.getNodes());
+			group.remove(joinerIndex);
+			new DataSeeder(cluster.getNode(primaryIndex), group)
+					.seed(SeedPlan.of("recovery", 4, rows / 4), SEED_TIMEOUT);
+
+			RecoveryTimings timings = new RecoveryHarness(cluster).join(joinerIndex, method, RECOVERY_TIMEOUT);
+
+			assertTrue(cluster.getNode(joinerIndex).getGtidExecuted()
+					.contains(cluster.getNode(primaryIndex).getGtidExecuted()), "Joiner is missing transactions");
+			log.info("{} rows, {}: join={}ms cloning={}ms restart={}ms catch-up={}ms total={}ms", rows, method,
+					timings.join().toMillis(), timings.cloning().toMillis(), timings.restart().toMillis(),
+					timings.catchUp().toMillis(), timings.total().toMillis());
+		}
+	}
+}
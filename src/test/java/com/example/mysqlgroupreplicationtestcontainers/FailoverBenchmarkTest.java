@@ -0,0 +1,63 @@
+package com.example.mysqlgroupreplicationtestcontainers;
+
+import com.example.mysqlgroupreplicationtestcontainers.FailoverHarness.FailoverTimings;
+import com.example.mysqlgroupreplicationtestcontainers.GroupReplicationCluster.Fault;
+import com.example.mysqlgroupreplicationtestcontainers.GroupReplicationCluster.Topology;
+import com.example.mysqlgroupreplicationtestcontainers.load.LoadProfile;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Times primary failover under write load for every {@link Fault}, across group_replication_member_expel_timeout and
+ * group_replication_unreachable_majority_timeout settings (seconds; 0 expels at once, or never leaves a minority).
+ * Each fault leaves the old primary out of the group, so every run starts a fresh group.
+ */
+@Slf4j
+@Tag("benchmark")
+@Testcontainers
+class FailoverBenchmarkTest {
+
+	private static final int MEMBER_COUNT = 3;
+	private static final Duration FAILOVER_TIMEOUT = Duration.ofMinutes(2);
+	private static final LoadProfile LOAD = LoadProfile.of(4, Duration.ofSeconds(20)).withBatchSize(10);
+	private static final int[] EXPEL_TIMEOUTS = {0, 5};
+	private static final int[] UNREACHABLE_MAJORITY_TIMEOUTS = {0, 10};
+
+	static Stream<Arguments> failoverSettings() {
+		return Arrays.stream(Fault.values()).flatMap(fault -> Arrays.stream(EXPEL_TIMEOUTS).boxed()
+				.flatMap(expel -> Arrays.stream(UNREACHABLE_MAJORITY_TIMEOUTS)
+						.mapToObj(unreachable -> Arguments.of(fault, expel, unreachable))));
+	}
+
+	@ParameterizedTest(name = "{0}, expel timeout {1}s, unreachable majority timeout {2}s")
+	@MethodSource("failoverSettings")
+	void failPrimaryUnderLoad(Fault fault, int expelTimeout, int unreachableMajorityTimeout) throws Exception {
+		MemberConfiguration configuration = MemberConfiguration.builder()
+				.memberExpelTimeout(expelTimeout)
+				.unreachableMajorityTimeout(unreachableMajorityTimeout)
+				.build();
+		try (GroupReplicationCluster cluster = BenchmarkGroup.start(MEMBER_COUNT, Topology.SINGLE_PRIMARY,
+				group -> group.withConfiguration(configuration))) {
+			FailoverTimings timings = new FailoverHarness(cluster, LOAD).failPrimary(fault, FAILOVER_TIMEOUT);
+
+			assertNotEquals(timings.oldPrimary(), timings.newPrimary());
+			assertTrue(timings.load().transactionsPerSecond() > 0, "No transaction committed before the fault");
+			log.info("{} expel={}s unreachable-majority={}s: election={}ms convergence={}ms client recovery={}ms " +
+							"old primary client recovery={}ms, load {} tps with {} errors", fault, expelTimeout,
+					unreachableMajorityTimeout, timings.election().toMillis(), timings.viewConvergence().toMillis(),
+					timings.clientRecovery().toMillis(), timings.oldPrimaryClientRecovery().toMillis(),
+					String.format("%.1f", timings.load().transactionsPerSecond()), timings.load().errors());
+		}
+	}
+}
@@ -0,0 +1,183 @@
+package com.example.mysqlgroupreplicationtestcontainers;
+
+import com.example.mysqlgroupreplicationtestcontainers.GroupReplicationCluster.Fault;
+import com.example.mysqlgroupreplicationtestcontainers.groupmember.GroupMember;
+import com.example.mysqlgroupreplicationtestcontainers.groupmember.MembershipMonitor;
+import com.example.mysqlgroupreplicationtestcontainers.load.LoadGenerator;
+import com.example.mysqlgroupreplicationtestcontainers.load.LoadProfile;
+import com.example.mysqlgroupreplicationtestcontainers.load.LoadResult;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Takes the primary out of a running group while a {@link LoadGenerator} writes on it, and times, from the moment
+ * the fault is injected halfway through the load:
+ * <ul>
+ *     <li>election: the surviving members first report another member as ONLINE PRIMARY,</li>
+ *     <li>view convergence: the view holds exactly the survivors, all ONLINE,</li>
+ *     <li>client recovery: a write through a {@link GroupReplicationDataSource} over the survivors first succeeds
+ *     again,</li>
+ *     <li>old primary client recovery: the same for a data source over every member, which was routing its writes
+ *     to the failed primary when the fault hit.</li>
+ * </ul>
+ * The monitor and the survivors' client only talk to the survivors, so a paused or disconnected member cannot stall
+ * them. Client writes give up on a silent connection after {@value #CLIENT_NETWORK_TIMEOUT_MILLIS} ms. A paused or
+ * disconnected primary is brought back once everything is measured, so writers blocked on it return.
+ */
+@Slf4j
+public class FailoverHarness {
+
+    public record FailoverTimings(Fault fault, String oldPrimary, String newPrimary, Duration election,
+                                  Duration viewConvergence, Duration clientRecovery,
+                                  Duration oldPrimaryClientRecovery, LoadResult load) {
+    }
+
+    static final String TABLE = "failover.probe";
+    private static final Duration MONITOR_INTERVAL = Duration.ofMillis(20);
+    private static final Duration CLIENT_RETRY = Duration.ofMillis(10);
+    private static final int CLIENT_NETWORK_TIMEOUT_MILLIS = 2_000;
+
+    private final GroupReplicationCluster cluster;
+    private final LoadProfile load;
+
+    /**
+     * @param load write load run on the primary; every member's pool must hold {@link LoadProfile#threads()} plus
+     *             the clients' connections
+     */
+    public FailoverHarness(GroupReplicationCluster cluster, LoadProfile load) {
+        this.cluster = cluster;
+        this.load = load;
+    }
+
+    public FailoverTimings failPrimary(Fault fault, Duration timeout) throws Exception {
+        int primaryIndex = cluster.findPrimary();
+        MySQLServer oldPrimary = cluster.getNode(primaryIndex);
+        List<MySQLServer> survivors = new ArrayList<>(cluster.getNodes());
+        survivors.remove(oldPrimary);
+        // Survivors first: the membership view is read from the first member that lists itself ONLINE.
+        List<MySQLServer> everyMember = new ArrayList<>(survivors);
+        everyMember.add(oldPrimary);
+
+        oldPrimary.runSetupScript(SetupScript.of(
+                "CREATE DATABASE IF NOT EXISTS failover",
+                "CREATE TABLE IF NOT EXISTS " + TABLE + " (id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                        "written_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6))"));
+        LoadGenerator generator = new LoadGenerator(List.of(oldPrimary), load);
+        generator.prepare();
+
+        AtomicLong electedAt = new AtomicLong();
+        AtomicLong convergedAt = new AtomicLong();
+        AtomicReference<String> newPrimary = new AtomicReference<>();
+
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try (MembershipMonitor monitor = new MembershipMonitor(survivors, MONITOR_INTERVAL);
+             GroupReplicationDataSource survivorSource = new GroupReplicationDataSource(survivors, MONITOR_INTERVAL);
+             GroupReplicationDataSource oldPrimarySource = new GroupReplicationDataSource(everyMember,
+                     MONITOR_INTERVAL)) {
+            if (!oldPrimarySource.getPrimary().getHostName().equals(oldPrimary.getHostName())) {
+                throw new IllegalStateException("Writes are not routed to " + oldPrimary.getHostName());
+            }
+            monitor.refresh();
+            monitor.addListener(event -> {
+                long now = System.nanoTime();
+                GroupMember current = event.current();
+                if (current != null && current.isPrimary() && current.isOnline()
+                        && !current.host().equals(oldPrimary.getHostName())
+                        && electedAt.compareAndSet(0, now)) {
+                    newPrimary.set(current.host());
+                }
+                if (isConverged(monitor.getSnapshot(), survivors)) {
+                    convergedAt.compareAndSet(0, now);
+                }
+            });
+            monitor.start();
+
+            Future<LoadResult> loadResult = executor.submit(generator::run);
+            Thread.sleep(load.duration().toMillis() / 2);
+
+            long start = System.nanoTime();
+            long deadline = start + timeout.toNanos();
+            cluster.injectFault(primaryIndex, fault);
+
+            Future<Long> survivorRecovery = executor.submit(() -> awaitSuccessfulWrite(survivorSource, deadline));
+            Future<Long> oldPrimaryRecovery = executor.submit(() -> awaitSuccessfulWrite(oldPrimarySource, deadline));
+            long recoveredAt = join(survivorRecovery);
+            long oldPrimaryRecoveredAt = join(oldPrimaryRecovery);
+            while ((electedAt.get() == 0 || convergedAt.get() == 0) && System.nanoTime() < deadline) {
+                Thread.sleep(MONITOR_INTERVAL.toMillis());
+            }
+            if (electedAt.get() == 0 || convergedAt.get() == 0) {
+                throw new TimeoutException("Group did not elect a new primary and converge within " + timeout);
+            }
+            if (fault == Fault.PAUSE || fault == Fault.DISCONNECT) {
+                cluster.clearFault(primaryIndex, fault);
+            }
+            LoadResult result = loadResult.get(load.duration().toMillis() + timeout.toMillis(),
+                    TimeUnit.MILLISECONDS);
+
+            FailoverTimings timings = new FailoverTimings(fault, oldPrimary.getHostName(), newPrimary.get(),
+                    Duration.ofNanos(electedAt.get() - start), Duration.ofNanos(convergedAt.get() - start),
+                    Duration.ofNanos(recoveredAt - start), Duration.ofNanos(oldPrimaryRecoveredAt - start), result);
+            log.info("{}", timings);
+            return timings;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static boolean isConverged(Map<String, GroupMember> view, List<MySQLServer> survivors) {
+        if (view.size() != survivors.size()) {
+            return false;
+        }
+        for (MySQLServer survivor : survivors) {
+            GroupMember member = view.get(survivor.getHostName());
+            if (member == null || !member.isOnline()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long join(Future<Long> future) throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        }
+    }
+
+    private static long awaitSuccessfulWrite(GroupReplicationDataSource dataSource, long deadline)
+            throws InterruptedException, TimeoutException {
+        while (System.nanoTime() < deadline) {
+            try {
+                dataSource.write(connection -> {
+                    // A paused or partitioned primary never answers; without a timeout the write would wait forever.
+                    connection.setNetworkTimeout(Runnable::run, CLIENT_NETWORK_TIMEOUT_MILLIS);
+                    try (PreparedStatement ps = connection.prepareStatement(
+                            "INSERT INTO " + TABLE + " () VALUES ()")) {
+                        return ps.executeUpdate();
+                    }
+                });
+                return System.nanoTime();
+            } catch (SQLException | RuntimeException e) {
+                log.debug("Write not accepted yet: {}", e.getMessage());
+                Thread.sleep(CLIENT_RETRY.toMillis());
+            }
+        }
+        throw new TimeoutException("No write succeeded after the failover");
+    }
+}
@@ -0,0 +1,480 @@
+package com.example.mysqlgroupreplicationtestcontainers;
+
+import com.example.mysqlgroupreplicationtestcontainers.groupmember.GroupMember;
+import com.example.mysqlgroupreplicationtestcontainers.groupmember.MembershipMonitor;
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.command.InspectContainerResponse;
+import com.github.dockerjava.api.model.ContainerNetwork;
+import com.github.dockerjava.api.model.ExposedPort;
+import com.github.dockerjava.api.model.Ports;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.utility.DockerImageName;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * A group of {@code memberCount} MySQL containers sharing one network. Member {@code i} (0-based) gets server id
+ * {@code i + 1} and host name {@code hostNamePrefix + (i + 1)}; the group seeds list every member.
+ */
+@Slf4j
+public class GroupReplicationCluster implements AutoCloseable {
+
+    public static final int MIN_MEMBERS = 3;
+    public static final int MAX_MEMBERS = 9;
+    public static final String DEFAULT_HOSTNAME_PREFIX = "node";
+    private static final Duration MONITOR_INTERVAL = Duration.ofMillis(100);
+    private static final Duration RECONNECT_INTERVAL = Duration.ofMillis(500);
+
+    public enum Topology {
+        SINGLE_PRIMARY, MULTI_PRIMARY;
+
+        public boolean isSinglePrimary() {
+            return this == SINGLE_PRIMARY;
+        }
+    }
+
+    @Getter
+    private final String dockerImage;
+    @Getter
+    private final int memberCount;
+    @Getter
+    private final Topology topology;
+    @Getter
+    private final String hostNamePrefix;
+    private final Network network;
+    @Getter
+    private MemberConfiguration configuration = MemberConfiguration.defaults();
+    @Getter
+    private StorageProfile storage = StorageProfile.durable();
+    @Getter
+    private ConnectionPoolSettings poolSettings = Utils.POOL_SETTINGS;
+    private boolean cloneRecovery;
+    private boolean snapshotReuse;
+    private ClusterSnapshot snapshot;
+    @Getter
+    private boolean restoredFromSnapshot;
+    private List<MySQLContainer<?>> containers;
+    private List<MySQLServer> nodes = Collections.emptyList();
+
+    public GroupReplicationCluster(String dockerImage, int memberCount, Topology topology) {
+        this(dockerImage, memberCount, topology, DEFAULT_HOSTNAME_PREFIX);
+    }
+
+    public GroupReplicationCluster(String dockerImage, int memberCount, Topology topology, String hostNamePrefix) {
+        if (memberCount < MIN_MEMBERS || memberCount > MAX_MEMBERS) {
+            throw new IllegalArgumentException(String.format("Member count must be between %d and %d, got %d",
+                    MIN_MEMBERS, MAX_MEMBERS, memberCount));
+        }
+        this.dockerImage = dockerImage;
+        this.memberCount = memberCount;
+        this.topology = topology;
+        this.hostNamePrefix = hostNamePrefix;
+        this.network = Network.newNetwork();
+    }
+
+    /**
+     * Restores the members from committed images of an earlier bootstrapped group with the same configuration when
+     * they exist, and captures them after the first successful {@link #startGroup(Duration)} otherwise.
+     */
+    public GroupReplicationCluster withSnapshotReuse() {
+        checkNotCreated();
+        checkSnapshotCompatible(storage);
+        this.snapshotReuse = true;
+        return this;
+    }
+
+    /**
+     * Applies the given performance settings to every member's command line.
+     */
+    public GroupReplicationCluster withConfiguration(MemberConfiguration configuration) {
+        checkNotCreated();
+        this.configuration = configuration;
+        return this;
+    }
+
+    /**
+     * Places every member's data and logs according to the given profile. Ephemeral (tmpfs) profiles cannot be
+     * combined with snapshot reuse, whose images would come out empty.
+     */
+    public GroupReplicationCluster withStorageProfile(StorageProfile storage) {
+        checkNotCreated();
+        if (snapshotReuse) {
+            checkSnapshotCompatible(storage);
+        }
+        if (cloneRecovery) {
+            checkCloneCompatible(storage);
+        }
+        this.storage = storage;
+        return this;
+    }
+
+    /**
+     * Sizes the connection pool of every member; load that keeps a connection per thread needs at least as many
+     * connections as threads.
+     */
+    public GroupReplicationCluster withPoolSettings(ConnectionPoolSettings poolSettings) {
+        checkNotCreated();
+        this.poolSettings = poolSettings;
+        return this;
+    }
+
+    /**
+     * Lets Docker restart members whose mysqld exits, which a member does after cloning a donor, so that
+     * {@link #enableClone()} can be used. Without it a member that exits, from a crash or a fault, stays down. Not
+     * available with an ephemeral storage profile: the joiner would lose the cloned data on restart.
+     */
+    public GroupReplicationCluster withCloneRecovery() {
+        checkNotCreated();
+        checkCloneCompatible(storage);
+        this.cloneRecovery = true;
+        return this;
+    }
+
+    private static void checkCloneCompatible(StorageProfile storage) {
+        if (storage.isEphemeral()) {
+            throw new IllegalStateException("Clone restarts the joiner, which loses its tmpfs data directory");
+        }
+    }
+
+    private static void checkSnapshotCompatible(StorageProfile storage) {
+        if (storage.isEphemeral()) {
+            throw new IllegalStateException("Snapshot reuse needs the data on the container filesystem, "
+                    + "but the storage profile keeps it on tmpfs");
+        }
+    }
+
+    private void checkNotCreated() {
+        if (containers != null) {
+            throw new IllegalStateException("Containers are already created");
+        }
+    }
+
+    private String getCommand(int id) {
+        String command = Utils.getCommand(id, topology.isSinglePrimary(), hostNamePrefix, memberCount,
+                configuration) + storage.toCommandLine();
+        if (snapshotReuse) {
+            command += " --datadir=" + ClusterSnapshot.DATADIR;
+        }
+        return command;
+    }
+
+    private synchronized List<MySQLContainer<?>> createContainers() {
+        if (containers != null) {
+            return containers;
+        }
+        List<String> commands = new ArrayList<>();
+        for (int id = 1; id <= memberCount; id++) {
+            commands.add(getCommand(id));
+        }
+        if (snapshotReuse) {
+            List<String> identity = new ArrayList<>(commands);
+            identity.add(0, dockerImage);
+            snapshot = new ClusterSnapshot(identity);
+            restoredFromSnapshot = snapshot.exists(memberCount);
+        }
+
+        List<MySQLContainer<?>> list = new ArrayList<>();
+        for (int id = 1; id <= memberCount; id++) {
+            DockerImageName image = restoredFromSnapshot ? snapshot.image(id) : DockerImageName.parse(dockerImage);
+            list.add(Utils.getContainer(image, id, hostNamePrefix, commands.get(id - 1), network, storage,
+                    cloneRecovery));
+        }
+        containers = Collections.unmodifiableList(list);
+        return containers;
+    }
+
+    /**
+     * Starts the containers and connects to them, without touching group replication. {@link #startGroup(Duration)}
+     * does this itself; a second start would leave the first connection pools open.
+     */
+    public void start() {
+        if (!nodes.isEmpty()) {
+            throw new IllegalStateException("Members are already started");
+        }
+        nodes = Collections.unmodifiableList(
+                Utils.startMySQLServices(hostNamePrefix, createContainers(), poolSettings));
+    }
+
+    /**
+     * Starts the members and brings up a complete, ONLINE group: restored from the snapshot when snapshot reuse is
+     * on and one exists, bootstrapped from scratch (and then captured, with snapshot reuse) otherwise.
+     */
+    public void startGroup(Duration timeout) throws SQLException, InterruptedException, TimeoutException {
+        start();
+        if (restoredFromSnapshot) {
+            log.info("Restoring the group from snapshot images");
+            restartGroup();
+            awaitMembersOnline(timeout);
+            return;
+        }
+        prepare();
+        bootstrap();
+        joinOthers();
+        awaitMembersOnline(timeout);
+        if (snapshotReuse) {
+            captureSnapshot(timeout);
+        }
+    }
+
+    /**
+     * Stops group replication everywhere so all members hold the same data, commits the containers, which restarts
+     * them, and forms the group again. The members are reconnected, so earlier {@link MySQLServer} references are
+     * closed.
+     */
+    public void captureSnapshot(Duration timeout) throws SQLException, InterruptedException, TimeoutException {
+        if (snapshot == null) {
+            throw new IllegalStateException("Snapshot reuse is not enabled");
+        }
+        for (int i = nodes.size() - 1; i >= 0; i--) {
+            nodes.get(i).stopGroupReplication();
+        }
+        snapshot.capture(containers);
+        for (int i = 0; i < nodes.size(); i++) {
+            nodes.get(i).getConnectionPool().close();
+            awaitReconnect(i, timeout);
+        }
+        restartGroup();
+        awaitMembersOnline(timeout);
+    }
+
+    /**
+     * Reconnects the member as soon as its restarted mysqld accepts connections.
+     */
+    private void awaitReconnect(int index, Duration timeout) throws InterruptedException, TimeoutException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (true) {
+            try {
+                reconnect(index);
+                return;
+            } catch (RuntimeException e) {
+                if (System.nanoTime() > deadline) {
+                    TimeoutException timeoutException = new TimeoutException(
+                            getNode(index).getHostName() + " did not accept connections within " + timeout);
+                    timeoutException.initCause(e);
+                    throw timeoutException;
+                }
+                Thread.sleep(RECONNECT_INTERVAL.toMillis());
+            }
+        }
+    }
+
+    private void restartGroup() throws SQLException {
+        getNode(0).startGroupReplication(true);
+        for (MySQLServer node : nodes.subList(1, nodes.size())) {
+            node.startGroupReplication(false);
+        }
+    }
+
+    /**
+     * Clears the binary logs and installs the group replication plugin on every member.
+     */
+    public void prepare() throws SQLException {
+        Utils.forEachNode(nodes, node -> {
+            node.resetMaster();
+            node.installGroupReplicationPlugin();
+        });
+    }
+
+    public void bootstrap() throws SQLException {
+        getNode(0).bootStrapGroupReplication();
+    }
+
+    /**
+     * Joins every member but the bootstrap one, one at a time as group replication expects.
+     */
+    public void joinOthers() throws SQLException {
+        for (MySQLServer node : nodes.subList(1, nodes.size())) {
+            node.joinGroupReplication();
+        }
+    }
+
+    /**
+     * Installs the clone plugin on every member and lets the recovery user clone any of them, so members can join
+     * with {@link RecoveryMethod#CLONE}. The cluster must have been created {@link #withCloneRecovery()}.
+     */
+    public void enableClone() throws SQLException {
+        if (!cloneRecovery) {
+            throw new IllegalStateException("Clone recovery was not enabled before the containers were created");
+        }
+        Utils.forEachNode(nodes, MySQLServer::installClonePlugin);
+        getNode(findPrimary()).grantCloneDonor();
+    }
+
+    /**
+     * Replaces the member's {@link MySQLServer} with one pointing at the container's current MySQL port, which
+     * Docker may have changed when the container restarted itself (after a clone, for instance). References to the
+     * old instance keep the old port.
+     */
+    public MySQLServer reconnect(int index) {
+        MySQLContainer<?> container = getContainer(index);
+        InspectContainerResponse info = DockerClientFactory.instance().client()
+                .inspectContainerCmd(container.getContainerId()).exec();
+        Ports.Binding[] bindings = info.getNetworkSettings().getPorts().getBindings()
+                .get(ExposedPort.tcp(MySQLContainer.MYSQL_PORT));
+        String port = bindings[0].getHostPortSpec();
+        // getMappedPort still reports the port the container was first started with.
+        String url = container.getJdbcUrl()
+                .replace(":" + container.getMappedPort(MySQLContainer.MYSQL_PORT) + "/", ":" + port + "/");
+        MySQLServer server = new MySQLServer(String.valueOf(index + 1), hostNamePrefix,
+                new ConnectionPool(hostNamePrefix + (index + 1), url, container.getUsername(),
+                        container.getPassword(), poolSettings));
+        List<MySQLServer> list = new ArrayList<>(nodes);
+        list.set(index, server);
+        nodes = Collections.unmodifiableList(list);
+        return server;
+    }
+
+    /**
+     * Opens a second set of pools on the members, with other settings than the cluster's own, for clients that need
+     * other connection properties such as GTID tracking for a {@link ReadYourWritesSession}. The caller closes the
+     * pools of the returned servers.
+     */
+    public List<MySQLServer> connect(ConnectionPoolSettings settings) {
+        List<MySQLServer> servers = new ArrayList<>();
+        for (MySQLServer node : nodes) {
+            servers.add(new MySQLServer(node.getId(), hostNamePrefix, node.getConnectionPool().withSettings(settings)));
+        }
+        return servers;
+    }
+
+    /**
+     * Blocks until every member is reported ONLINE by the group.
+     */
+    public void awaitMembersOnline(Duration timeout) throws InterruptedException, TimeoutException {
+        try (MembershipMonitor monitor = new MembershipMonitor(nodes, MONITOR_INTERVAL)) {
+            CompletableFuture<?>[] futures = nodes.stream()
+                    .map(node -> monitor.onlineFuture(node.getHostName()))
+                    .toArray(CompletableFuture[]::new);
+            monitor.start();
+            CompletableFuture.allOf(futures).get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    public List<MySQLServer> getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Runs the operation on every member concurrently; see {@link AsyncMySQLServer#allMembers(List, SqlFunction)}.
+     */
+    public <R> CompletableFuture<Map<String, R>> allMembers(SqlFunction<MySQLServer, R> operation) {
+        return AsyncMySQLServer.allMembers(getNodes(), operation);
+    }
+
+    public MySQLServer getNode(int index) {
+        return nodes.get(index);
+    }
+
+    public List<MySQLContainer<?>> getContainers() {
+        return createContainers();
+    }
+
+    public MySQLContainer<?> getContainer(int index) {
+        return createContainers().get(index);
+    }
+
+    public String getGroupSeeds() {
+        return Utils.getGroupSeeds(hostNamePrefix, memberCount);
+    }
+
+    /**
+     * Ways of taking a member out of the group, from the group's point of view all indistinguishable from a crash.
+     */
+    public enum Fault {
+        KILL, STOP, PAUSE, DISCONNECT
+    }
+
+    public void injectFault(int index, Fault fault) {
+        DockerClient client = DockerClientFactory.instance().client();
+        String containerId = getContainer(index).getContainerId();
+        switch (fault) {
+            case KILL -> client.killContainerCmd(containerId).exec();
+            case STOP -> client.stopContainerCmd(containerId).exec();
+            case PAUSE -> client.pauseContainerCmd(containerId).exec();
+            case DISCONNECT -> client.disconnectFromNetworkCmd()
+                    .withNetworkId(network.getId())
+                    .withContainerId(containerId)
+                    .withForce(true)
+                    .exec();
+        }
+        log.info("Injected {} on {}", fault, getNode(index).getHostName());
+    }
+
+    /**
+     * Undoes a {@link Fault#PAUSE} or {@link Fault#DISCONNECT}; killed and stopped members are not restarted.
+     */
+    public void clearFault(int index, Fault fault) {
+        DockerClient client = DockerClientFactory.instance().client();
+        MySQLContainer<?> container = getContainer(index);
+        switch (fault) {
+            case PAUSE -> client.unpauseContainerCmd(container.getContainerId()).exec();
+            case DISCONNECT -> {
+                List<String> aliases = new ArrayList<>(container.getNetworkAliases());
+                aliases.add(getNode(index).getHostName());
+                client.connectToNetworkCmd()
+                        .withNetworkId(network.getId())
+                        .withContainerId(container.getContainerId())
+                        .withContainerNetwork(new ContainerNetwork().withAliases(aliases))
+                        .exec();
+            }
+            default -> throw new IllegalArgumentException(fault + " cannot be cleared");
+        }
+    }
+
+    /**
+     * Returns the index of the member the group currently reports as PRIMARY, asking the members in order.
+     */
+    public int findPrimary() throws SQLException {
+        SQLException failure = new SQLException("No member reported a PRIMARY");
+        for (MySQLServer node : nodes) {
+            try {
+                for (GroupMember member : node.getPerformanceSchemaReplicationGroupMembers().values()) {
+                    if (member.isPrimary() && member.isOnline()) {
+                        return indexOf(member.host());
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                failure.addSuppressed(e);
+            }
+        }
+        throw failure;
+    }
+
+    public int indexOf(String hostName) {
+        for (int i = 0; i < nodes.size(); i++) {
+            if (nodes.get(i).getHostName().equals(hostName)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("No member with host " + hostName);
+    }
+
+    public void stop() {
+        if (containers != null) {
+            for (MySQLContainer<?> container : containers) {
+                Utils.stopMySQLService(container);
+            }
+        }
+        network.close();
+    }
+
+    @Override
+    public void close() {
+        stop();
+    }
+}
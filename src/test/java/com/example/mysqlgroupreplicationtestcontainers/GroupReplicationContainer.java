@@ -0,0 +1,71 @@
+package com.example.mysqlgroupreplicationtestcontainers;
+
+import org.testcontainers.containers.Container.ExecResult;
+import org.testcontainers.containers.ContainerLaunchException;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.containers.wait.strategy.LogMessageWaitStrategy;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * MySQL container that counts as started once mysqld has logged that it accepts connections on 3306 and the
+ * group_replication plugin library is present, instead of retrying JDBC connections until one succeeds.
+ * <p>
+ * On first start the image's entrypoint initializes the data directory with a temporary server listening on port 0,
+ * then restarts it; only the second "ready for connections" line mentions port 3306. The X plugin's own line
+ * mentions 33060, hence the whitespace after the port.
+ */
+public class GroupReplicationContainer extends MySQLContainer<GroupReplicationContainer> {
+
+    static final String READY_FOR_CONNECTIONS = "(?s).*ready for connections.*port: 3306\\s.*";
+    static final String PLUGIN_LIBRARY = "group_replication.so";
+
+    public GroupReplicationContainer(DockerImageName dockerImageName) {
+        super(dockerImageName);
+    }
+
+    @Override
+    protected void waitUntilContainerStarted() {
+        new LogMessageWaitStrategy()
+                .withRegEx(READY_FOR_CONNECTIONS)
+                .withStartupTimeout(Duration.ofSeconds(getStartupTimeoutSeconds()))
+                .waitUntilReady(this);
+        checkGroupReplicationPlugin();
+    }
+
+    /**
+     * Looks up the plugin directory once and checks that the plugin library is in it, so a member fails at start-up
+     * rather than at INSTALL PLUGIN when the image was built without Group Replication.
+     */
+    private void checkGroupReplicationPlugin() {
+        String pluginDir;
+        try (Connection connection = createConnection("");
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT @@plugin_dir")) {
+            rs.next();
+            pluginDir = rs.getString(1);
+        } catch (SQLException e) {
+            throw new ContainerLaunchException("MySQL logged it was ready but refused a connection", e);
+        }
+
+        String library = pluginDir.endsWith("/") ? pluginDir + PLUGIN_LIBRARY : pluginDir + "/" + PLUGIN_LIBRARY;
+        ExecResult result;
+        try {
+            result = execInContainer("test", "-f", library);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ContainerLaunchException("Interrupted while looking for " + library, e);
+        } catch (IOException e) {
+            throw new ContainerLaunchException("Could not look for " + library, e);
+        }
+        if (result.getExitCode() != 0) {
+            throw new ContainerLaunchException(library + " is missing, the image cannot run Group Replication");
+        }
+    }
+}
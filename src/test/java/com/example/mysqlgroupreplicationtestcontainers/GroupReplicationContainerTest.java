@@ -0,0 +1,25 @@
+package com.example.mysqlgroupreplicationtestcontainers;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GroupReplicationContainerTest {
+
+	@Test
+	void readyOnlyOncePort3306IsListening() {
+		assertFalse(isReady("2024-01-01T00:00:00.000000Z 0 [System] [MY-010931] [Server] /usr/sbin/mysqld: ready for " +
+				"connections. Version: '8.0.36'  socket: '/var/run/mysqld/mysqld.sock'  port: 0  MySQL Community " +
+				"Server - GPL.\n"));
+		assertFalse(isReady("2024-01-01T00:00:01.000000Z 0 [System] [MY-011323] [Server] X Plugin ready for " +
+				"connections. Bind-address: '::' port: 33060, socket: /var/run/mysqld/mysqlx.sock\n"));
+		assertTrue(isReady("2024-01-01T00:00:02.000000Z 0 [System] [MY-010931] [Server] /usr/sbin/mysqld: ready for " +
+				"connections. Version: '8.0.36'  socket: '/var/run/mysqld/mysqld.sock'  port: 3306  MySQL Community " +
+				"Server - GPL.\n"));
+	}
+
+	private static boolean isReady(String line) {
+		return line.matches(GroupReplicationContainer.READY_FOR_CONNECTIONS);
+	}
+}
@@ -0,0 +1,171 @@
+package com.example.mysqlgroupreplicationtestcontainers;
+
+import lombok.Builder;
+
+import java.util.Locale;
+
+/**
+ * Performance-related Group Replication settings appended to every member's mysqld command line, including the
+ * failure detection timeouts, in seconds, that bound how long a failover takes. A {@code null} field leaves the server
+ * default in place, so {@link #defaults()} produces the same command line as before any tuning. Options are passed
+ * with the {@code loose-} prefix like the rest of the group replication options, because the plugin is only installed
+ * after the server starts.
+ *
+ * <pre>{@code
+ * MemberConfiguration.throughput().toBuilder().parallelApplierWorkers(16).build()
+ * }</pre>
+ */
+@Builder(toBuilder = true)
+public record MemberConfiguration(Consistency consistency,
+                                  FlowControlMode flowControlMode,
+                                  Integer flowControlCertifierThreshold,
+                                  Integer flowControlApplierThreshold,
+                                  Long messageCacheSize,
+                                  Long compressionThreshold,
+                                  Boolean paxosSingleLeader,
+                                  Integer parallelApplierWorkers,
+                                  Boolean preserveCommitOrder,
+                                  DependencyTracking dependencyTracking,
+                                  Integer memberExpelTimeout,
+                                  Integer unreachableMajorityTimeout) {
+
+    public static final long MIN_MESSAGE_CACHE_SIZE = 128L * 1024 * 1024;
+
+    /**
+     * Values of {@code group_replication_consistency}.
+     */
+    public enum Consistency {
+        EVENTUAL, BEFORE_ON_PRIMARY_FAILOVER, BEFORE, AFTER, BEFORE_AND_AFTER
+    }
+
+    /**
+     * Values of {@code group_replication_flow_control_mode}.
+     */
+    public enum FlowControlMode {
+        QUOTA, DISABLED
+    }
+
+    /**
+     * Values of {@code binlog_transaction_dependency_tracking}. With {@link #WRITESET} transactions that touch
+     * different rows can be applied in parallel on secondaries even when they committed one after the other.
+     */
+    public enum DependencyTracking {
+        COMMIT_ORDER, WRITESET, WRITESET_SESSION
+    }
+
+    public MemberConfiguration {
+        requireNonNegative("flowControlCertifierThreshold", flowControlCertifierThreshold);
+        requireNonNegative("flowControlApplierThreshold", flowControlApplierThreshold);
+        requireNonNegative("compressionThreshold", compressionThreshold);
+        requireNonNegative("parallelApplierWorkers", parallelApplierWorkers);
+        requireNonNegative("memberExpelTimeout", memberExpelTimeout);
+        requireNonNegative("unreachableMajorityTimeout", unreachableMajorityTimeout);
+        if (messageCacheSize != null && messageCacheSize < MIN_MESSAGE_CACHE_SIZE) {
+            throw new IllegalArgumentException("messageCacheSize must be at least " + MIN_MESSAGE_CACHE_SIZE
+                    + " bytes, got " + messageCacheSize);
+        }
+    }
+
+    private static void requireNonNegative(String name, Number value) {
+        if (value != null && value.longValue() < 0) {
+            throw new IllegalArgumentException(name + " must not be negative, got " + value);
+        }
+    }
+
+    /**
+     * Server defaults for everything.
+     */
+    public static MemberConfiguration defaults() {
+        return builder().build();
+    }
+
+    /**
+     * Eventual consistency with flow control off, so the primary is never throttled by slow secondaries, a large
+     * message cache for members that fall behind, and a wide, writeset-based parallel applier.
+     */
+    public static MemberConfiguration throughput() {
+        return builder()
+                .consistency(Consistency.EVENTUAL)
+                .flowControlMode(FlowControlMode.DISABLED)
+                .messageCacheSize(2L * 1024 * 1024 * 1024)
+                .paxosSingleLeader(true)
+                .parallelApplierWorkers(16)
+                .preserveCommitOrder(true)
+                .dependencyTracking(DependencyTracking.WRITESET)
+                .build();
+    }
+
+    /**
+     * Keeps secondaries close behind the primary: tight flow-control thresholds, no message compression on the
+     * commit path and a single consensus leader to save a round trip.
+     */
+    public static MemberConfiguration lowLatency() {
+        return builder()
+                .consistency(Consistency.EVENTUAL)
+                .flowControlMode(FlowControlMode.QUOTA)
+                .flowControlCertifierThreshold(1000)
+                .flowControlApplierThreshold(1000)
+                .compressionThreshold(0L)
+                .paxosSingleLeader(true)
+                .parallelApplierWorkers(4)
+                .preserveCommitOrder(true)
+                .dependencyTracking(DependencyTracking.WRITESET)
+                .build();
+    }
+
+    /**
+     * Reads see every transaction committed in the group before they start, and commits wait until every member
+     * has applied them.
+     */
+    public static MemberConfiguration strongConsistency() {
+        return builder()
+                .consistency(Consistency.BEFORE_AND_AFTER)
+                .flowControlMode(FlowControlMode.QUOTA)
+                .parallelApplierWorkers(4)
+                .build();
+    }
+
+    /**
+     * Looks up a preset by name ({@code default}, {@code throughput}, {@code low-latency} or
+     * {@code strong-consistency}), e.g. from a system property selecting the configuration under test.
+     */
+    public static MemberConfiguration named(String name) {
+        return switch (name.toLowerCase(Locale.ROOT)) {
+            case "default" -> defaults();
+            case "throughput" -> throughput();
+            case "low-latency" -> lowLatency();
+            case "strong-consistency" -> strongConsistency();
+            default -> throw new IllegalArgumentException("Unknown member configuration preset: " + name);
+        };
+    }
+
+    /**
+     * The mysqld options for this configuration, each preceded by a space; empty for {@link #defaults()}.
+     */
+    public String toCommandLine() {
+        StringBuilder options = new StringBuilder();
+        append(options, "loose-group-replication-consistency", consistency);
+        append(options, "loose-group-replication-flow-control-mode", flowControlMode);
+        append(options, "loose-group-replication-flow-control-certifier-threshold", flowControlCertifierThreshold);
+        append(options, "loose-group-replication-flow-control-applier-threshold", flowControlApplierThreshold);
+        append(options, "loose-group-replication-message-cache-size", messageCacheSize);
+        append(options, "loose-group-replication-compression-threshold", compressionThreshold);
+        append(options, "loose-group-replication-paxos-single-leader", onOff(paxosSingleLeader));
+        append(options, "replica-parallel-workers", parallelApplierWorkers);
+        append(options, "replica-preserve-commit-order", onOff(preserveCommitOrder));
+        append(options, "binlog-transaction-dependency-tracking", dependencyTracking);
+        append(options, "loose-group-replication-member-expel-timeout", memberExpelTimeout);
+        append(options, "loose-group-replication-unreachable-majority-timeout", unreachableMajorityTimeout);
+        return options.toString();
+    }
+
+    private static String onOff(Boolean value) {
+        return value == null ? null : value ? "ON" : "OFF";
+    }
+
+    private static void append(StringBuilder options, String option, Object value) {
+        if (value != null) {
+            options.append(" --").append(option).append('=').append(value);
+        }
+    }
+}
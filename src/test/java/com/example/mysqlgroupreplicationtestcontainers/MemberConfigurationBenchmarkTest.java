@@ -0,0 +1,43 @@
+package com.example.mysqlgroupreplicationtestcontainers;
+
+import com.example.mysqlgroupreplicationtestcontainers.GroupReplicationCluster.Topology;
+import com.example.mysqlgroupreplicationtestcontainers.load.LoadGenerator;
+import com.example.mysqlgroupreplicationtestcontainers.load.LoadProfile;
+import com.example.mysqlgroupreplicationtestcontainers.load.LoadResult;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the same write load against a group started with each {@link MemberConfiguration} preset.
+ */
+@Slf4j
+@Tag("benchmark")
+@Testcontainers
+class MemberConfigurationBenchmarkTest {
+
+	private static final int MEMBER_COUNT = 3;
+	private static final LoadProfile PROFILE = LoadProfile.of(8, Duration.ofSeconds(20)).withBatchSize(10);
+
+	@ParameterizedTest
+	@ValueSource(strings = {"default", "throughput", "low-latency", "strong-consistency"})
+	void primaryWriteLoad(String preset) throws Exception {
+		try (GroupReplicationCluster cluster = BenchmarkGroup.start(MEMBER_COUNT, Topology.SINGLE_PRIMARY,
+				group -> group.withConfiguration(MemberConfiguration.named(preset)))) {
+			LoadGenerator generator = new LoadGenerator(List.of(cluster.getNode(cluster.findPrimary())), PROFILE);
+			generator.prepare();
+			LoadResult result = generator.run();
+
+			assertTrue(result.transactionsPerSecond() > 0, "No transaction committed");
+			log.info("{}: {} tps, {} errors", preset, String.format("%.1f", result.transactionsPerSecond()),
+					result.errors());
+		}
+	}
+}
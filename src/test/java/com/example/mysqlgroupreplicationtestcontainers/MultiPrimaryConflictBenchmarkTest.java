@@ -0,0 +1,57 @@
+package com.example.mysqlgroupreplicationtestcontainers;
+
+import com.example.mysqlgroupreplicationtestcontainers.GroupReplicationCluster.Topology;
+import com.example.mysqlgroupreplicationtestcontainers.load.KeyDistribution;
+import com.example.mysqlgroupreplicationtestcontainers.load.LoadGenerator;
+import com.example.mysqlgroupreplicationtestcontainers.load.LoadProfile;
+import com.example.mysqlgroupreplicationtestcontainers.load.LoadResult;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Writes concurrently on every member of a multi-primary group with hot keys shared by all writers, and reports the
+ * rollback rate, the throughput and the hottest tables and key ranges as the key skew and the group size grow. A
+ * Zipfian exponent of 0 is the uniform baseline. Group formation is not under test, so every skew of a group size runs
+ * on the same group leased from the {@link ClusterPool}.
+ */
+@Slf4j
+@Tag("benchmark")
+@Testcontainers
+class MultiPrimaryConflictBenchmarkTest {
+
+	private static final int HOT_KEYS = 10_000;
+	private static final int TABLES = 4;
+	private static final double CONFLICT_RATIO = 0.5;
+	private static final LoadProfile PROFILE = LoadProfile.of(8, Duration.ofSeconds(30)).withBatchSize(5)
+			.withTables(TABLES);
+
+	@ParameterizedTest
+	@CsvSource({
+			"3, 0", "3, 0.5", "3, 0.9", "3, 0.99",
+			"5, 0", "5, 0.5", "5, 0.9", "5, 0.99",
+			"7, 0", "7, 0.5", "7, 0.9", "7, 0.99"})
+	void conflictingWritesOnEveryPrimary(int members, double skew) throws Exception {
+		try (ClusterLease lease = ClusterPool.shared().lease(BenchmarkGroup.DOCKER_IMAGE, members,
+				Topology.MULTI_PRIMARY)) {
+			GroupReplicationCluster cluster = lease.getCluster();
+			KeyDistribution keys = KeyDistribution.zipfian(HOT_KEYS, skew);
+			LoadGenerator generator = new LoadGenerator(cluster.getNodes(),
+					PROFILE.withConflicts(CONFLICT_RATIO, keys));
+			generator.prepare();
+			LoadResult result = generator.run();
+
+			assertTrue(result.transactionsPerSecond() > 0, "No transaction committed");
+			log.info("{} members, {}: {} tps, rollback rate {}%, {} errors{}{}", members, keys,
+					String.format("%.1f", result.transactionsPerSecond()),
+					String.format("%.2f", result.conflictRate() * 100), result.errors(), System.lineSeparator(),
+					result.hotspots());
+		}
+	}
+}
@@ -1,6 +1,12 @@
 package com.example.mysqlgroupreplicationtestcontainers;
 
+import com.example.mysqlgroupreplicationtestcontainers.GroupReplicationCluster.Topology;
 import com.example.mysqlgroupreplicationtestcontainers.groupmember.GroupMember;
+import com.example.mysqlgroupreplicationtestcontainers.groupmember.MemberRole;
+import com.example.mysqlgroupreplicationtestcontainers.load.LoadGenerator;
+import com.example.mysqlgroupreplicationtestcontainers.load.LoadProfile;
+import com.example.mysqlgroupreplicationtestcontainers.load.LoadResult;
+import com.example.mysqlgroupreplicationtestcontainers.load.MemberLoadResult;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Assumptions;
@@ -14,10 +20,10 @@ import org.junit.jupiter.api.TestInfo;
 import org.junit.jupiter.api.TestMethodOrder;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.testcontainers.containers.MySQLContainer;
-import org.testcontainers.containers.Network;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
 import java.sql.SQLException;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -34,48 +40,49 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 class MultiPrimaryGroupReplicationTest {
 
 	private static final String DOCKER_IMAGE = "mysql:8.0";
-	private static final String HOSTNAME_PREFIX = "node";
-	private static final boolean SINGLE_PRIMARY = false;
+	private static final int MEMBER_COUNT = 3;
+	private static final Duration JOIN_TIMEOUT = Duration.ofMinutes(1);
+	private static final Duration LOAD_DURATION = Duration.ofSeconds(5);
+	private static final int LOAD_THREADS = 2;
+	private static final Topology TOPOLOGY = Topology.MULTI_PRIMARY;
 	private static final List<String> DATABASE_NAME_LIST = Arrays.asList("DB1", "DB2", "DB3");
 	private static int testCount;
 	private static boolean groupBootstrapped, nodesJoined;
 	private static List<MySQLServer> nodes;
 
 
-	static Network network = Network.newNetwork();
+	static GroupReplicationCluster cluster = new GroupReplicationCluster(DOCKER_IMAGE, MEMBER_COUNT, TOPOLOGY);
 
-	static MySQLContainer<?> mySQLContainer1 = Utils.getContainer(DOCKER_IMAGE, 1, HOSTNAME_PREFIX, SINGLE_PRIMARY, network);
+	static MySQLContainer<?> mySQLContainer1 = cluster.getContainer(0);
 
-	static MySQLContainer<?> mySQLContainer2 = Utils.getContainer(DOCKER_IMAGE, 2, HOSTNAME_PREFIX, SINGLE_PRIMARY, network);
+	static MySQLContainer<?> mySQLContainer2 = cluster.getContainer(1);
 
-	static MySQLContainer<?> mySQLContainer3 = Utils.getContainer(DOCKER_IMAGE, 3, HOSTNAME_PREFIX, SINGLE_PRIMARY, network);
+	static MySQLContainer<?> mySQLContainer3 = cluster.getContainer(2);
 
 	static MySQLServer node1, node2, node3;
 
 	@BeforeAll
 	static void startDbs() throws SQLException {
-		node1 = Utils.startMySQLService("1", HOSTNAME_PREFIX, mySQLContainer1);
-		node2 = Utils.startMySQLService("2", HOSTNAME_PREFIX, mySQLContainer2);
-		node3 = Utils.startMySQLService("3", HOSTNAME_PREFIX, mySQLContainer3);
+		cluster.start();
+		nodes = cluster.getNodes();
+		node1 = nodes.get(0);
+		node2 = nodes.get(1);
+		node3 = nodes.get(2);
 
-		nodes = Arrays.asList(node1, node2, node3);
-		for (MySQLServer node : nodes) {
+		Utils.forEachNode(nodes, node -> {
 			node.resetMaster();
-			assertTrue(node.getGlobalGtidExecuted().isEmpty(), "There are transactions in the database");
-		}
+			assertTrue(node.getGtidExecuted().isEmpty(), "There are transactions in the database");
+		});
 
-		for (MySQLServer node : nodes) {
+		Utils.forEachNode(nodes, node -> {
 			node.installGroupReplicationPlugin();
 			assertTrue(node.showPlugins().containsKey("group_replication"), "Plugin not found in the set");
-		}
+		});
 	}
 
 	@AfterAll
 	static void stopDbs(){
-		Utils.stopMySQLService(mySQLContainer1);
-		Utils.stopMySQLService(mySQLContainer2);
-		Utils.stopMySQLService(mySQLContainer3);
-		network.close();
+		cluster.stop();
 	}
 
 	@BeforeEach
@@ -103,14 +110,14 @@ class MultiPrimaryGroupReplicationTest {
 
 		GroupMember member = map.get(node1.getHostName());
 		assertEquals(node1.getHostName(), member.host(), "Hostname is different");
-		Utils.assertSinglePrimaryGR(member, "PRIMARY");
+		Utils.assertSinglePrimaryGR(member, MemberRole.PRIMARY);
 		groupBootstrapped = true;
 	}
 
 	@Test
 	@Order(2)
 	@DisplayName("Joining more nodes")
-	public void joiningOtherNodes() throws SQLException {
+	public void joiningOtherNodes() throws Exception {
 		Assumptions.assumeTrue(groupBootstrapped);
 
 		assertTrue(mySQLContainer2.isRunning());
@@ -130,13 +137,15 @@ class MultiPrimaryGroupReplicationTest {
 			throw e;
 		}
 
+		cluster.awaitMembersOnline(JOIN_TIMEOUT);
+
 		Map<String, GroupMember> map = node1.getPerformanceSchemaReplicationGroupMembers();
 		assertEquals(3, map.keySet().size(), "It's expected to have 3 members");
 
 		for (MySQLServer node : Arrays.asList(node2, node3)) {
 			GroupMember member = map.get(node.getHostName());
 			assertEquals(node.getHostName(), member.host(), "Hostname is different");
-			Utils.assertSinglePrimaryGR(member, "PRIMARY");
+			Utils.assertSinglePrimaryGR(member, MemberRole.PRIMARY);
 		}
 		nodesJoined = true;
 
@@ -149,11 +158,11 @@ class MultiPrimaryGroupReplicationTest {
 	public void creatingDatabaseInPrimaries() throws SQLException {
 		Assumptions.assumeTrue(nodesJoined);
 
-		for (MySQLServer node : nodes) {
+		AsyncMySQLServer.await(cluster.allMembers(MySQLServer::showDatabases)).forEach((host, databases) -> {
 			for (String database : DATABASE_NAME_LIST) {
-				assertFalse(node.showDatabases().contains(database), "Database exists.");
+				assertFalse(databases.contains(database), "Database exists on " + host);
 			}
-		}
+		});
 
 		for (MySQLServer node : nodes) {
 			final int idx = nodes.indexOf(node);
@@ -176,4 +185,23 @@ class MultiPrimaryGroupReplicationTest {
 			assertTrue(databases.containsAll(DATABASE_NAME_LIST), "Node doesn't have all databases");
 		}
 	}
+
+	@Test
+	@Order(5)
+	@DisplayName("Writing concurrently on every primary")
+	public void writeLoadOnPrimaries() throws SQLException {
+		Assumptions.assumeTrue(nodesJoined);
+
+		LoadProfile profile = LoadProfile.of(LOAD_THREADS, LOAD_DURATION).withBatchSize(10).withConflicts(0.2, 10);
+		LoadGenerator generator = new LoadGenerator(nodes, profile);
+		generator.prepare();
+		LoadResult result = generator.run();
+
+		for (MySQLServer node : nodes) {
+			MemberLoadResult member = result.members().get(node.getHostName());
+			assertTrue(member.transactions() > 0, "Node didn't commit any transaction");
+		}
+		log.info("Group throughput: {} tps, certification conflicts: {}", result.transactionsPerSecond(),
+				result.certificationConflicts());
+	}
 }
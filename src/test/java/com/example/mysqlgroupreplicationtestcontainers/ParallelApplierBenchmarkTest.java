@@ -0,0 +1,67 @@
+package com.example.mysqlgroupreplicationtestcontainers;
+
+import com.example.mysqlgroupreplicationtestcontainers.GroupReplicationCluster.Topology;
+import com.example.mysqlgroupreplicationtestcontainers.MemberConfiguration.DependencyTracking;
+import com.example.mysqlgroupreplicationtestcontainers.MemberConfiguration.FlowControlMode;
+import com.example.mysqlgroupreplicationtestcontainers.load.LoadGenerator;
+import com.example.mysqlgroupreplicationtestcontainers.load.LoadProfile;
+import com.example.mysqlgroupreplicationtestcontainers.load.LoadResult;
+import com.example.mysqlgroupreplicationtestcontainers.stats.ApplierDrainProbe;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Builds a backlog on one secondary by holding its applier while the primary takes a write-heavy load, then times how
+ * long the secondary needs to apply it with a given number of parallel applier workers. Flow control is off so the
+ * primary is not throttled by the held secondary.
+ */
+@Slf4j
+@Tag("benchmark")
+@Testcontainers
+class ParallelApplierBenchmarkTest {
+
+	private static final int MEMBER_COUNT = 3;
+	private static final Duration DRAIN_TIMEOUT = Duration.ofMinutes(10);
+	private static final Duration POLL_INTERVAL = Duration.ofMillis(50);
+	private static final LoadProfile PROFILE = LoadProfile.of(16, Duration.ofSeconds(30)).withBatchSize(5);
+
+	@ParameterizedTest
+	@ValueSource(ints = {1, 4, 8, 16})
+	void drainSecondary(int workers) throws Exception {
+		MemberConfiguration configuration = MemberConfiguration.builder()
+				.flowControlMode(FlowControlMode.DISABLED)
+				.parallelApplierWorkers(workers)
+				.preserveCommitOrder(true)
+				.dependencyTracking(DependencyTracking.WRITESET)
+				.build();
+		try (GroupReplicationCluster cluster = BenchmarkGroup.start(MEMBER_COUNT, Topology.SINGLE_PRIMARY,
+				group -> group.withConfiguration(configuration)
+						.withPoolSettings(Utils.POOL_SETTINGS.withPoolSize(PROFILE.threads(), PROFILE.threads())))) {
+			int primaryIndex = cluster.findPrimary();
+			MySQLServer primary = cluster.getNode(primaryIndex);
+			MySQLServer secondary = cluster.getNode((primaryIndex + 1) % MEMBER_COUNT);
+
+			LoadGenerator generator = new LoadGenerator(List.of(primary), PROFILE);
+			generator.prepare();
+			ApplierDrainProbe probe = new ApplierDrainProbe(secondary, POLL_INTERVAL);
+			probe.hold();
+			LoadResult load = generator.run();
+			ApplierDrainProbe.Result drain = probe.drain(DRAIN_TIMEOUT);
+
+			assertEquals(workers, drain.workers());
+			assertTrue(drain.backlog() > 0, "No backlog was built on " + secondary.getHostName());
+			log.info("{} workers: primary {} tps, secondary drained {} transactions in {} ms ({} tx/s)", workers,
+					String.format("%.1f", load.transactionsPerSecond()), drain.backlog(),
+					drain.drainTime().toMillis(), String.format("%.1f", drain.applyRate()));
+		}
+	}
+}
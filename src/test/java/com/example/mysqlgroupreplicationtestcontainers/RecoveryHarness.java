@@ -0,0 +1,101 @@
+package com.example.mysqlgroupreplicationtestcontainers;
+
+import com.example.mysqlgroupreplicationtestcontainers.groupmember.MemberState;
+import com.example.mysqlgroupreplicationtestcontainers.groupmember.MembershipEvent;
+import com.example.mysqlgroupreplicationtestcontainers.groupmember.MembershipMonitor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Joins a member with a given {@link RecoveryMethod} and times its distributed recovery as seen by the rest of the
+ * group, which keeps answering while the joiner restarts after a clone:
+ * <ul>
+ *     <li>join: from START GROUP_REPLICATION until the member shows up RECOVERING,</li>
+ *     <li>cloning: until the member leaves the view to restart on the cloned data,</li>
+ *     <li>restart: until it is RECOVERING again,</li>
+ *     <li>catch-up: from the last RECOVERING until ONLINE, replaying the donor's binary log.</li>
+ * </ul>
+ * Cloning and restart are zero for incremental recovery.
+ */
+@Slf4j
+public class RecoveryHarness {
+
+    public record RecoveryTimings(RecoveryMethod method, String host, Duration join, Duration cloning,
+                                  Duration restart, Duration catchUp) {
+
+        public Duration total() {
+            return join.plus(cloning).plus(restart).plus(catchUp);
+        }
+    }
+
+    private static final Duration MONITOR_INTERVAL = Duration.ofMillis(50);
+
+    private final GroupReplicationCluster cluster;
+
+    public RecoveryHarness(GroupReplicationCluster cluster) {
+        this.cluster = cluster;
+    }
+
+    /**
+     * Joins the member at {@code index}, which must not be part of the group, and waits until it is ONLINE. The
+     * member is reconnected afterwards, see {@link GroupReplicationCluster#reconnect(int)}.
+     */
+    public RecoveryTimings join(int index, RecoveryMethod method, Duration timeout) throws Exception {
+        MySQLServer joiner = cluster.getNode(index);
+        String host = joiner.getHostName();
+        List<MySQLServer> donors = new ArrayList<>(cluster.getNodes());
+        donors.remove(joiner);
+
+        List<Long> recovering = new ArrayList<>();
+        List<Long> left = new ArrayList<>();
+        CompletableFuture<Long> online = new CompletableFuture<>();
+        try (MembershipMonitor monitor = new MembershipMonitor(donors, MONITOR_INTERVAL)) {
+            monitor.refresh();
+            monitor.addListener(event -> {
+                if (!event.host().equals(host)) {
+                    return;
+                }
+                long now = System.nanoTime();
+                synchronized (recovering) {
+                    if (event.type() == MembershipEvent.Type.LEFT) {
+                        left.add(now);
+                    } else if (event.current().state() == MemberState.RECOVERING) {
+                        recovering.add(now);
+                    } else if (event.current().isOnline()) {
+                        online.complete(now);
+                    }
+                }
+            });
+            monitor.start();
+
+            long start = System.nanoTime();
+            joiner.joinGroupReplication(method);
+            long onlineAt;
+            try {
+                onlineAt = online.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                throw new TimeoutException(host + " did not finish " + method + " recovery within " + timeout);
+            }
+            cluster.reconnect(index);
+
+            synchronized (recovering) {
+                long firstRecovering = recovering.isEmpty() ? onlineAt : recovering.get(0);
+                long lastRecovering = recovering.isEmpty() ? onlineAt : recovering.get(recovering.size() - 1);
+                long leftAt = left.isEmpty() ? firstRecovering : left.get(0);
+                RecoveryTimings timings = new RecoveryTimings(method, host,
+                        Duration.ofNanos(firstRecovering - start),
+                        Duration.ofNanos(leftAt - firstRecovering),
+                        Duration.ofNanos(Math.max(0, lastRecovering - leftAt)),
+                        Duration.ofNanos(onlineAt - lastRecovering));
+                log.info("{} total={}", timings, timings.total());
+                return timings;
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.mysqlgroupreplicationtestcontainers;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SetupScriptTest {
+
+	@Test
+	void longScriptIsSentWithoutTerminators() throws SQLException {
+		SetupScript script = SetupScript.of(
+				"SET @@GLOBAL.group_replication_bootstrap_group=1;",
+				"create user 'repl'@'%';",
+				"GRANT REPLICATION SLAVE ON *.* TO repl@'%' ;",
+				"flush privileges",
+				"START GROUP_REPLICATION;;")
+				.andThen("SET @@GLOBAL.group_replication_bootstrap_group=0;");
+		List<String> sent = new ArrayList<>();
+
+		script.execute(recordingConnection(sent));
+
+		assertEquals(List.of(
+				"SET @@GLOBAL.group_replication_bootstrap_group=1",
+				"create user 'repl'@'%'",
+				"GRANT REPLICATION SLAVE ON *.* TO repl@'%'",
+				"flush privileges",
+				"START GROUP_REPLICATION",
+				"SET @@GLOBAL.group_replication_bootstrap_group=0"), sent);
+		// What Connector/J sends for a rewritten batch of more than four statements.
+		assertEquals(-1, String.join(";", sent).indexOf(";;"));
+	}
+
+	@Test
+	void semicolonsInsideStatementsAreKept() {
+		assertEquals(List.of("SET @x = ';'"), SetupScript.of("SET @x = ';';").getStatements());
+	}
+
+	private static Connection recordingConnection(List<String> sent) {
+		Statement statement = (Statement) Proxy.newProxyInstance(SetupScriptTest.class.getClassLoader(),
+				new Class<?>[]{Statement.class}, (proxy, method, args) -> switch (method.getName()) {
+					case "addBatch" -> {
+						sent.add((String) args[0]);
+						yield null;
+					}
+					case "executeBatch" -> new int[sent.size()];
+					default -> null;
+				});
+		return (Connection) Proxy.newProxyInstance(SetupScriptTest.class.getClassLoader(),
+				new Class<?>[]{Connection.class},
+				(proxy, method, args) -> method.getName().equals("createStatement") ? statement : null);
+	}
+}
@@ -1,6 +1,14 @@
 package com.example.mysqlgroupreplicationtestcontainers;
 
+import com.example.mysqlgroupreplicationtestcontainers.GroupReplicationCluster.Topology;
 import com.example.mysqlgroupreplicationtestcontainers.groupmember.GroupMember;
+import com.example.mysqlgroupreplicationtestcontainers.groupmember.MemberRole;
+import com.example.mysqlgroupreplicationtestcontainers.load.DataSeeder;
+import com.example.mysqlgroupreplicationtestcontainers.load.ReplicationLatencyProbe;
+import com.example.mysqlgroupreplicationtestcontainers.load.SeedPlan;
+import com.example.mysqlgroupreplicationtestcontainers.stats.ReplicationMetrics;
+import com.example.mysqlgroupreplicationtestcontainers.stats.ReplicationStageCollector;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.AfterAll;
@@ -15,10 +23,13 @@ import org.junit.jupiter.api.TestInfo;
 import org.junit.jupiter.api.TestMethodOrder;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.testcontainers.containers.MySQLContainer;
-import org.testcontainers.containers.Network;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -26,6 +37,7 @@ import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -36,47 +48,54 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 class SinglePrimaryGroupReplicationTest {
 
 	private static final String DOCKER_IMAGE = "mysql:8.0";
-	private static final String HOSTNAME_PREFIX = "node";
+	private static final int MEMBER_COUNT = 3;
+	private static final Duration JOIN_TIMEOUT = Duration.ofMinutes(1);
 	private static final String DATABASE_NAME = "Testcontainers";
-	private static final boolean SINGLE_PRIMARY = true;
+	private static final String ROUTED_DATABASE_NAME = "Routed";
+	private static final Duration ROUTING_REFRESH = Duration.ofMillis(200);
+	private static final Duration HEARTBEAT_INTERVAL = Duration.ofMillis(50);
+	private static final Duration PROBE_DURATION = Duration.ofSeconds(5);
+	private static final String SEED_SCHEMA = "Seeded";
+	private static final long SEED_ROWS = 20_000;
+	private static final String SESSION_TABLE = ROUTED_DATABASE_NAME + ".session_writes";
+	private static final Duration READ_YOUR_WRITES_TIMEOUT = Duration.ofSeconds(1);
+	private static final Topology TOPOLOGY = Topology.SINGLE_PRIMARY;
 	private static int testCount;
 	private static boolean groupBootstrapped, nodesJoined;
 
 
-	static Network network = Network.newNetwork();
+	static GroupReplicationCluster cluster = new GroupReplicationCluster(DOCKER_IMAGE, MEMBER_COUNT, TOPOLOGY);
 
-	static MySQLContainer<?> mySQLContainer1 = Utils.getContainer(DOCKER_IMAGE, 1, HOSTNAME_PREFIX, SINGLE_PRIMARY, network);
+	static MySQLContainer<?> mySQLContainer1 = cluster.getContainer(0);
 
-	static MySQLContainer<?> mySQLContainer2 = Utils.getContainer(DOCKER_IMAGE, 2, HOSTNAME_PREFIX, SINGLE_PRIMARY, network);
+	static MySQLContainer<?> mySQLContainer2 = cluster.getContainer(1);
 
-	static MySQLContainer<?> mySQLContainer3 = Utils.getContainer(DOCKER_IMAGE, 3, HOSTNAME_PREFIX, SINGLE_PRIMARY, network);
+	static MySQLContainer<?> mySQLContainer3 = cluster.getContainer(2);
 
 	static MySQLServer node1, node2, node3;
 
 	@BeforeAll
 	static void startDbs() throws SQLException {
-		node1 = Utils.startMySQLService("1", HOSTNAME_PREFIX, mySQLContainer1);
-		node2 = Utils.startMySQLService("2", HOSTNAME_PREFIX, mySQLContainer2);
-		node3 = Utils.startMySQLService("3", HOSTNAME_PREFIX, mySQLContainer3);
+		cluster.start();
+		List<MySQLServer> nodes = cluster.getNodes();
+		node1 = nodes.get(0);
+		node2 = nodes.get(1);
+		node3 = nodes.get(2);
 
-		List<MySQLServer> nodes = Arrays.asList(node1, node2, node3);
-		for (MySQLServer node : nodes) {
+		Utils.forEachNode(nodes, node -> {
 			node.resetMaster();
-			assertTrue(node.getGlobalGtidExecuted().isEmpty(), "There are transactions in the database");
-		}
+			assertTrue(node.getGtidExecuted().isEmpty(), "There are transactions in the database");
+		});
 
-		for (MySQLServer node : nodes) {
+		Utils.forEachNode(nodes, node -> {
 			node.installGroupReplicationPlugin();
 			assertTrue(node.showPlugins().containsKey("group_replication"), "Plugin not found in the set");
-		}
+		});
 	}
 
 	@AfterAll
 	static void stopDbs(){
-		Utils.stopMySQLService(mySQLContainer1);
-		Utils.stopMySQLService(mySQLContainer2);
-		Utils.stopMySQLService(mySQLContainer3);
-		network.close();
+		cluster.stop();
 	}
 
 	@BeforeEach
@@ -104,14 +123,14 @@ class SinglePrimaryGroupReplicationTest {
 
 		GroupMember member = map.get(node1.getHostName());
 		assertEquals(node1.getHostName(), member.host(), "Hostname is different");
-		Utils.assertSinglePrimaryGR(member, "PRIMARY");
+		Utils.assertSinglePrimaryGR(member, MemberRole.PRIMARY);
 		groupBootstrapped = true;
 	}
 
 	@Test
 	@Order(2)
 	@DisplayName("Joining more nodes")
-	public void joiningOtherNodes() throws SQLException {
+	public void joiningOtherNodes() throws Exception {
 		Assumptions.assumeTrue(groupBootstrapped);
 
 		assertTrue(mySQLContainer2.isRunning());
@@ -131,11 +150,13 @@ class SinglePrimaryGroupReplicationTest {
 			throw e;
 		}
 
+		cluster.awaitMembersOnline(JOIN_TIMEOUT);
+
 		Map<String, GroupMember> map = node1.getPerformanceSchemaReplicationGroupMembers();
 		for (MySQLServer node : Arrays.asList(node2, node3)) {
 			GroupMember member = map.get(node.getHostName());
 			assertEquals(node.getHostName(), member.host(), "Hostname is different");
-			Utils.assertSinglePrimaryGR(member, "SECONDARY");
+			Utils.assertSinglePrimaryGR(member, MemberRole.SECONDARY);
 		}
 		nodesJoined = true;
 		Utils.printGroupMembers(map);
@@ -159,9 +180,8 @@ class SinglePrimaryGroupReplicationTest {
 	public void creatingDatabaseInPrimary() throws SQLException {
 		Assumptions.assumeTrue(nodesJoined);
 
-		for (MySQLServer mySQLServer : Arrays.asList(node1, node2, node3)) {
-			assertFalse(mySQLServer.showDatabases().contains(DATABASE_NAME), "Database exists.");
-		}
+		AsyncMySQLServer.await(cluster.allMembers(MySQLServer::showDatabases)).forEach((host, databases) ->
+				assertFalse(databases.contains(DATABASE_NAME), "Database exists on " + host));
 
 		node1.createDatabase(DATABASE_NAME);
 		Set<String> databases = node1.showDatabases();
@@ -175,10 +195,158 @@ class SinglePrimaryGroupReplicationTest {
 	public void checkDatabaseInSecondaries() throws SQLException {
 		Assumptions.assumeTrue(nodesJoined);
 
-		for (MySQLServer mySQLServer : Arrays.asList(node2, node3)) {
-			Set<String> databases = mySQLServer.showDatabases();
-			log.info("Secondary databases: {}", databases);
+		Map<String, Set<String>> secondaries = AsyncMySQLServer.await(
+				AsyncMySQLServer.allMembers(List.of(node2, node3), MySQLServer::showDatabases));
+		secondaries.forEach((host, databases) -> {
+			log.info("Secondary {} databases: {}", host, databases);
 			assertTrue(databases.contains(DATABASE_NAME), "Database doesn't exist.");
+		});
+	}
+
+	@Test
+	@Order(6)
+	@DisplayName("Routing writes to the Primary and reads to Secondaries")
+	public void routingDataSource() throws SQLException {
+		Assumptions.assumeTrue(nodesJoined);
+
+		try (GroupReplicationDataSource dataSource = new GroupReplicationDataSource(cluster.getNodes(), ROUTING_REFRESH)) {
+			assertEquals(node1.getHostName(), dataSource.getPrimary().getHostName());
+
+			dataSource.write(connection -> {
+				try (Statement statement = connection.createStatement()) {
+					return statement.execute("CREATE DATABASE " + ROUTED_DATABASE_NAME);
+				}
+			});
+
+			for (int i = 0; i < MEMBER_COUNT; i++) {
+				String host = dataSource.read(connection -> {
+					try (Statement statement = connection.createStatement();
+						 ResultSet rs = statement.executeQuery("SELECT @@hostname")) {
+						rs.next();
+						return rs.getString(1);
+					}
+				});
+				assertNotEquals(node1.getHostName(), host, "Read routed to the Primary");
+			}
+		}
+		assertTrue(node1.showDatabases().contains(ROUTED_DATABASE_NAME), "Database doesn't exist.");
+	}
+
+	@Test
+	@Order(7)
+	@DisplayName("Publishing replication metrics")
+	public void replicationMetrics() {
+		Assumptions.assumeTrue(nodesJoined);
+
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		node1.getConnectionPool().bindTo(registry);
+		try (ReplicationMetrics metrics = new ReplicationMetrics(registry, cluster.getNodes())) {
+			metrics.sample();
+		}
+		assertTrue(registry.get("hikaricp.connections.acquire").tag("pool", node1.getHostName()).timer().count() > 0,
+				"Pool acquisitions were not recorded");
+
+		for (MySQLServer mySQLServer : Arrays.asList(node2, node3)) {
+			double applied = registry.get("gr.transactions.applied")
+					.tag("member", mySQLServer.getHostName())
+					.functionCounter()
+					.count();
+			log.info("{} applied remote transactions: {}", mySQLServer.getHostName(), applied);
+			assertTrue(applied > 0, "Secondary didn't apply any transaction");
+		}
+		double proposed = registry.get("gr.transactions.local.proposed")
+				.tag("member", node1.getHostName())
+				.functionCounter()
+				.count();
+		assertTrue(proposed > 0, "Primary didn't propose any transaction");
+	}
+
+	@Test
+	@Order(8)
+	@DisplayName("Measuring commit-to-visible latency on Secondaries")
+	public void replicationLatency() throws Exception {
+		Assumptions.assumeTrue(nodesJoined);
+
+		ReplicationLatencyProbe probe = new ReplicationLatencyProbe(List.of(node1), cluster.getNodes(),
+				HEARTBEAT_INTERVAL, Duration.ofMillis(5));
+		probe.prepare();
+		ReplicationStageCollector stages = new ReplicationStageCollector(cluster.getNodes(), Duration.ofMillis(5));
+		stages.start();
+		ReplicationLatencyProbe.Result result = probe.run(PROBE_DURATION);
+		ReplicationStageCollector.Result breakdown = stages.stop();
+
+		for (MySQLServer mySQLServer : Arrays.asList(node2, node3)) {
+			assertTrue(result.get(node1, mySQLServer).getTotalCount() > 0, "No heartbeat became visible");
+			assertTrue(breakdown.get(mySQLServer).samples() > 0, "No transaction was sampled on every stage");
+		}
+	}
+
+	@Test
+	@Order(9)
+	@DisplayName("Seeding tables through the Primary")
+	public void seedingData() throws Exception {
+		Assumptions.assumeTrue(nodesJoined);
+
+		SeedPlan plan = SeedPlan.of(SEED_SCHEMA, 2, SEED_ROWS);
+		DataSeeder.SeedResult result = new DataSeeder(node1, cluster.getNodes()).seed(plan, JOIN_TIMEOUT);
+		assertEquals(plan.totalRows(), result.rows());
+		assertTrue(result.convergence().isConverged(), result.convergence().toString());
+
+		Map<String, Long> counts = AsyncMySQLServer.await(cluster.allMembers(node -> {
+			try (Connection connection = node.getConnection();
+				 Statement statement = connection.createStatement();
+				 ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM " + plan.table(2))) {
+				rs.next();
+				return rs.getLong(1);
+			}
+		}));
+		counts.forEach((host, count) -> assertEquals(SEED_ROWS, count, "Rows missing on " + host));
+	}
+
+	@Test
+	@Order(10)
+	@DisplayName("Reading own writes from Secondaries")
+	public void readYourWrites() throws SQLException {
+		Assumptions.assumeTrue(nodesJoined);
+
+		List<MySQLServer> tracked = cluster.connect(Utils.POOL_SETTINGS.withTrackSessionGtids(true));
+		try (GroupReplicationDataSource dataSource = new GroupReplicationDataSource(tracked, ROUTING_REFRESH)) {
+			ReadYourWritesSession session = new ReadYourWritesSession(dataSource, READ_YOUR_WRITES_TIMEOUT);
+			session.write(connection -> {
+				try (Statement statement = connection.createStatement()) {
+					return statement.execute("CREATE TABLE IF NOT EXISTS " + SESSION_TABLE +
+							" (id INT NOT NULL PRIMARY KEY)");
+				}
+			});
+
+			for (int id = 1; id <= MEMBER_COUNT; id++) {
+				final int written = id;
+				session.write(connection -> {
+					try (Statement statement = connection.createStatement()) {
+						return statement.executeUpdate("INSERT INTO " + SESSION_TABLE + " VALUES (" + written + ")");
+					}
+				});
+				long secondaryReads = session.getSecondaryReads();
+				Map.Entry<String, Long> visible = session.read(connection -> {
+					try (Statement statement = connection.createStatement();
+						 ResultSet rs = statement.executeQuery("SELECT @@hostname, COUNT(*) FROM " + SESSION_TABLE +
+								 " WHERE id = " + written)) {
+						rs.next();
+						return Map.entry(rs.getString(1), rs.getLong(2));
+					}
+				});
+				assertEquals(1, visible.getValue(), "Own write " + written + " not visible");
+				boolean servedBySecondary = session.getSecondaryReads() > secondaryReads;
+				assertEquals(servedBySecondary, !node1.getHostName().equals(visible.getKey()),
+						"Read on " + visible.getKey() + " counted wrongly");
+			}
+			assertFalse(session.getWrittenGtids().isEmpty(), "No GTID was tracked for the session's writes");
+			assertTrue(session.getSecondaryReads() > 0, "No read was served by a Secondary");
+			assertEquals(MEMBER_COUNT, session.getSecondaryReads() + session.getPrimaryFallbacks());
+			log.info("Session wrote {}: {} secondary reads, {} primary fallbacks", session.getWrittenGtids(),
+					session.getSecondaryReads(), session.getPrimaryFallbacks());
+		} finally {
+			tracked.forEach(node -> node.getConnectionPool().close());
 		}
 	}
 }
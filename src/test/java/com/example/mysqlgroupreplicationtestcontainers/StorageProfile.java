@@ -0,0 +1,106 @@
+package com.example.mysqlgroupreplicationtestcontainers;
+
+import lombok.Builder;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Where a member keeps its data and how hard it works to keep it. A {@code null} field leaves the image or server
+ * default in place, so {@link #durable()} produces the same containers as before.
+ * <p>
+ * With {@code tmpfsSize} set, the data directory, which also holds the binary and relay logs, is a tmpfs of that
+ * size: nothing reaches a disk, and nothing survives the container stopping. Such members cannot be committed to
+ * snapshot images, cannot restart after a clone and come back empty after a {@link GroupReplicationCluster.Fault#STOP}.
+ * A member's memory footprint is bounded by the tmpfs size plus the buffer pool and the server's own overhead.
+ */
+@Builder(toBuilder = true)
+public record StorageProfile(String tmpfsSize,
+                             Integer syncBinlog,
+                             Integer innodbFlushLogAtTrxCommit,
+                             Boolean innodbDoublewrite,
+                             String innodbBufferPoolSize,
+                             String innodbRedoLogCapacity) {
+
+    /**
+     * The image's data directory, replaced by the tmpfs.
+     */
+    public static final String DATADIR = "/var/lib/mysql";
+
+    public StorageProfile {
+        if (innodbFlushLogAtTrxCommit != null && (innodbFlushLogAtTrxCommit < 0 || innodbFlushLogAtTrxCommit > 2)) {
+            throw new IllegalArgumentException("innodbFlushLogAtTrxCommit must be 0, 1 or 2, got "
+                    + innodbFlushLogAtTrxCommit);
+        }
+        if (syncBinlog != null && syncBinlog < 0) {
+            throw new IllegalArgumentException("syncBinlog must not be negative, got " + syncBinlog);
+        }
+    }
+
+    /**
+     * Overlay filesystem and server defaults: every commit is flushed to disk.
+     */
+    public static StorageProfile durable() {
+        return builder().build();
+    }
+
+    /**
+     * Data and logs on a 1 GB tmpfs, no fsync on commit, no doublewrite buffer, and a small buffer pool and redo log,
+     * for suites that never restart a member.
+     */
+    public static StorageProfile fast() {
+        return builder()
+                .tmpfsSize("1g")
+                .syncBinlog(0)
+                .innodbFlushLogAtTrxCommit(2)
+                .innodbDoublewrite(false)
+                .innodbBufferPoolSize("64M")
+                .innodbRedoLogCapacity("32M")
+                .build();
+    }
+
+    /**
+     * Looks up a preset by name ({@code durable} or {@code fast}).
+     */
+    public static StorageProfile named(String name) {
+        return switch (name.toLowerCase(Locale.ROOT)) {
+            case "durable" -> durable();
+            case "fast" -> fast();
+            default -> throw new IllegalArgumentException("Unknown storage profile: " + name);
+        };
+    }
+
+    /**
+     * Whether the member loses its data when its container stops.
+     */
+    public boolean isEphemeral() {
+        return tmpfsSize != null;
+    }
+
+    /**
+     * The tmpfs mounts for the container, empty unless {@link #isEphemeral()}.
+     */
+    public Map<String, String> tmpfs() {
+        return isEphemeral() ? Map.of(DATADIR, "rw,noexec,nosuid,size=" + tmpfsSize) : Map.of();
+    }
+
+    /**
+     * The mysqld options for this profile, each preceded by a space; empty for {@link #durable()}. The redo log
+     * capacity option only exists from 8.0.30 on and is passed {@code loose-} so older servers ignore it.
+     */
+    public String toCommandLine() {
+        StringBuilder options = new StringBuilder();
+        append(options, "sync-binlog", syncBinlog);
+        append(options, "innodb-flush-log-at-trx-commit", innodbFlushLogAtTrxCommit);
+        append(options, "innodb-doublewrite", innodbDoublewrite == null ? null : innodbDoublewrite ? "ON" : "OFF");
+        append(options, "innodb-buffer-pool-size", innodbBufferPoolSize);
+        append(options, "loose-innodb-redo-log-capacity", innodbRedoLogCapacity);
+        return options.toString();
+    }
+
+    private static void append(StringBuilder options, String option, Object value) {
+        if (value != null) {
+            options.append(" --").append(option).append('=').append(value);
+        }
+    }
+}
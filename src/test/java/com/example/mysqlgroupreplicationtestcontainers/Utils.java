@@ -1,13 +1,24 @@
 package com.example.mysqlgroupreplicationtestcontainers;
 
 import com.example.mysqlgroupreplicationtestcontainers.groupmember.GroupMember;
+import com.example.mysqlgroupreplicationtestcontainers.groupmember.MemberRole;
+import com.example.mysqlgroupreplicationtestcontainers.groupmember.MemberState;
+import com.github.dockerjava.api.model.RestartPolicy;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.testcontainers.containers.MySQLContainer;
 import org.testcontainers.containers.Network;
+import org.testcontainers.utility.DockerImageName;
 
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -15,18 +26,64 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 public class Utils {
 
     private static final Logger logger = LoggerFactory.getLogger(Utils.class);
+    private static final int MAX_PARALLEL_TASKS = 9;
+    static final ConnectionPoolSettings POOL_SETTINGS = ConnectionPoolSettings.fromApplicationProperties();
 
-    public static MySQLContainer<?> getContainer(String dockerImage, int id, String hostNamePrefix, boolean isSinglePrimary, Network network) {
-        return new MySQLContainer<>(dockerImage)
+    @FunctionalInterface
+    public interface NodeTask {
+        void run(MySQLServer node) throws SQLException;
+    }
+
+    public static MySQLContainer<?> getContainer(String dockerImage, int id, String hostNamePrefix, boolean isSinglePrimary,
+                                                 int memberCount, Network network) {
+        return getContainer(DockerImageName.parse(dockerImage), id, hostNamePrefix,
+                Utils.getCommand(id, isSinglePrimary, hostNamePrefix, memberCount), network);
+    }
+
+    public static MySQLContainer<?> getContainer(DockerImageName dockerImage, int id, String hostNamePrefix, String command,
+                                                 Network network) {
+        return getContainer(dockerImage, id, hostNamePrefix, command, network, StorageProfile.durable());
+    }
+
+    public static MySQLContainer<?> getContainer(DockerImageName dockerImage, int id, String hostNamePrefix, String command,
+                                                 Network network, StorageProfile storage) {
+        return getContainer(dockerImage, id, hostNamePrefix, command, network, storage, false);
+    }
+
+    /**
+     * A container whose data directory follows the given storage profile. The profile's mysqld options are expected
+     * to be part of {@code command} already. With {@code cloneRecovery} Docker restarts the container when mysqld
+     * exits, as it does after a clone; otherwise a member whose mysqld exits stays down.
+     */
+    public static MySQLContainer<?> getContainer(DockerImageName dockerImage, int id, String hostNamePrefix, String command,
+                                                 Network network, StorageProfile storage, boolean cloneRecovery) {
+        MySQLContainer<?> container = new GroupReplicationContainer(dockerImage)
                 //.withLogConsumer(new Slf4jLogConsumer(logger))
-                .withCommand(Utils.getCommand(id, isSinglePrimary, hostNamePrefix))
+                .withCommand(command)
                 .withUsername("root")
                 .withPassword("mypass")
-                .withCreateContainerCmdModifier(it -> it.withHostName(hostNamePrefix + id))
+                .withUrlParam("rewriteBatchedStatements", "true")
+                .withCreateContainerCmdModifier(it -> {
+                    it.withHostName(hostNamePrefix + id);
+                    if (cloneRecovery) {
+                        // mysqld is the container's main process, so a clone-triggered restart stops the container;
+                        // Docker starts it again. Stops and kills issued through the Docker API are not undone.
+                        it.getHostConfig().withRestartPolicy(RestartPolicy.unlessStoppedRestart());
+                    }
+                })
                 .withNetwork(network);
+        if (storage.isEphemeral()) {
+            container.withTmpFs(storage.tmpfs());
+        }
+        return container;
+    }
+
+    public static String getCommand(int id, boolean isSinglePrimary, String hostNamePrefix, int memberCount) {
+        return getCommand(id, isSinglePrimary, hostNamePrefix, memberCount, MemberConfiguration.defaults());
     }
 
-    public static String getCommand(int id, boolean isSinglePrimary, String hostNamePrefix) {
+    public static String getCommand(int id, boolean isSinglePrimary, String hostNamePrefix, int memberCount,
+                                    MemberConfiguration configuration) {
         final String flag1 = isSinglePrimary ? "ON" : "OFF";
         final String flag2 = isSinglePrimary ? "OFF" : "ON";
         return String.format("mysqld --server-id=%s " +
@@ -42,19 +99,82 @@ public class Utils {
                         "--loose-group-replication-start-on-boot=OFF " +
                         "--loose-group-replication-group-name=aaaaaaaa-bbbb-cccc-dddd-eeeeeeeeeeee " +
                         "--loose-group-replication-local-address=%s:33061 " +
-                        "--loose-group-replication-group-seeds=%s1:33061,%s2:33061,%s3:33061 " +
+                        "--loose-group-replication-group-seeds=%s " +
                         "--loose-group-replication-single-primary-mode=%s " +
-                        "--loose-group-replication-enforce-update-everywhere-checks=%s",
-                id, hostNamePrefix + id, hostNamePrefix, hostNamePrefix, hostNamePrefix, flag1, flag2);
+                        "--loose-group-replication-enforce-update-everywhere-checks=%s%s",
+                id, hostNamePrefix + id, getGroupSeeds(hostNamePrefix, memberCount), flag1, flag2,
+                configuration.toCommandLine());
+    }
+
+    public static String getGroupSeeds(String hostNamePrefix, int memberCount) {
+        StringJoiner seeds = new StringJoiner(",");
+        for (int id = 1; id <= memberCount; id++) {
+            seeds.add(hostNamePrefix + id + ":33061");
+        }
+        return seeds.toString();
     }
 
     public static MySQLServer startMySQLService(String id, String hostNamePrefix, MySQLContainer<?> container) {
+        return startMySQLService(id, hostNamePrefix, container, POOL_SETTINGS);
+    }
+
+    public static MySQLServer startMySQLService(String id, String hostNamePrefix, MySQLContainer<?> container,
+                                                ConnectionPoolSettings poolSettings) {
         container.start();
         String url = container.getJdbcUrl();
-        ConnectionPool connectionPool =  new ConnectionPool(url, container.getUsername(), container.getPassword());
+        ConnectionPool connectionPool = new ConnectionPool(hostNamePrefix + id, url, container.getUsername(),
+                container.getPassword(), poolSettings);
         return new MySQLServer(id, hostNamePrefix, connectionPool);
     }
 
+    /**
+     * Starts all containers concurrently and returns one {@link MySQLServer} per container, in the same order.
+     * Server ids are assigned from 1 following the list order.
+     */
+    public static List<MySQLServer> startMySQLServices(String hostNamePrefix, List<MySQLContainer<?>> containers) {
+        return startMySQLServices(hostNamePrefix, containers, POOL_SETTINGS);
+    }
+
+    public static List<MySQLServer> startMySQLServices(String hostNamePrefix, List<MySQLContainer<?>> containers,
+                                                       ConnectionPoolSettings poolSettings) {
+        ExecutorService executor = newExecutor(containers.size());
+        try {
+            List<Future<MySQLServer>> futures = new ArrayList<>();
+            for (int i = 0; i < containers.size(); i++) {
+                final String id = String.valueOf(i + 1);
+                final MySQLContainer<?> container = containers.get(i);
+                futures.add(executor.submit(() -> startMySQLService(id, hostNamePrefix, container, poolSettings)));
+            }
+            List<MySQLServer> nodes = new ArrayList<>();
+            for (Future<MySQLServer> future : futures) {
+                nodes.add(AsyncMySQLServer.await(future));
+            }
+            return nodes;
+        } catch (SQLException e) {
+            // Starting a container throws no checked exception, so this is only an interrupted wait.
+            throw new IllegalStateException("Could not start nodes", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Runs the given task on every node concurrently, each on its own virtual thread, and waits for all of them to
+     * finish. The first failure is rethrown once every task has completed.
+     */
+    public static void forEachNode(List<MySQLServer> nodes, NodeTask task) throws SQLException {
+        AsyncMySQLServer.await(AsyncMySQLServer.allMembers(nodes, node -> {
+            task.run(node);
+            return null;
+        }));
+    }
+
+    // Container start-up stays on platform threads: Testcontainers blocks inside synchronized code, which would pin
+    // virtual threads to their carriers.
+    private static ExecutorService newExecutor(int tasks) {
+        return Executors.newFixedThreadPool(Math.max(1, Math.min(tasks, MAX_PARALLEL_TASKS)));
+    }
+
     public static void stopMySQLService(MySQLContainer<?> container) {
         if (container != null) {
             container.stop();
@@ -67,9 +187,9 @@ public class Utils {
         }
     }
 
-    public static void assertSinglePrimaryGR(GroupMember member, String type) {
+    public static void assertSinglePrimaryGR(GroupMember member, MemberRole type) {
         assertEquals(type, member.role());
-        assertEquals("ONLINE", member.state());
+        assertEquals(MemberState.ONLINE, member.state());
         assertEquals("3306", member.port());
         assertEquals("XCom", member.communicationStack());
     }
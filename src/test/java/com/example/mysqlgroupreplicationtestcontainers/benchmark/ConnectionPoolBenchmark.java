@@ -0,0 +1,62 @@
+package com.example.mysqlgroupreplicationtestcontainers.benchmark;
+
+import com.example.mysqlgroupreplicationtestcontainers.ConnectionPool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Borrow-and-return cost of {@link ConnectionPool#getConnection()}, alone and with more threads than pooled
+ * connections.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConnectionPoolBenchmark {
+
+    private ConnectionPool pool;
+
+    @Setup
+    public void setUp() throws SQLException {
+        pool = new ConnectionPool(FakeGroup.create("pool", 3), FakeGroup.USERNAME, FakeGroup.PASSWORD);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.close();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void uncontended(Blackhole blackhole) throws SQLException {
+        try (Connection connection = pool.getConnection()) {
+            blackhole.consume(connection);
+        }
+    }
+
+    @Benchmark
+    @Threads(32)
+    public void contended(Blackhole blackhole) throws SQLException {
+        try (Connection connection = pool.getConnection()) {
+            blackhole.consume(connection);
+        }
+    }
+}
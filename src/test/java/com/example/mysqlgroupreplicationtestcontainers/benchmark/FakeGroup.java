@@ -0,0 +1,55 @@
+package com.example.mysqlgroupreplicationtestcontainers.benchmark;
+
+import com.example.mysqlgroupreplicationtestcontainers.ConnectionPool;
+import com.example.mysqlgroupreplicationtestcontainers.MySQLServer;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * In-memory H2 database standing in for a group member: it only carries the performance_schema tables the client
+ * code reads, filled with {@code members} ONLINE rows.
+ */
+final class FakeGroup {
+    static final String USERNAME = "sa";
+    static final String PASSWORD = "";
+
+    private FakeGroup() {
+    }
+
+    static String create(String name, int members) throws SQLException {
+        String url = "jdbc:h2:mem:" + name + ";MODE=MySQL;DB_CLOSE_DELAY=-1";
+        try (Connection connection = DriverManager.getConnection(url, USERNAME, PASSWORD);
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE SCHEMA IF NOT EXISTS performance_schema");
+            statement.execute("DROP TABLE IF EXISTS performance_schema.replication_group_members");
+            statement.execute("CREATE TABLE performance_schema.replication_group_members (" +
+                    "CHANNEL_NAME CHAR(64), MEMBER_ID CHAR(36), MEMBER_HOST CHAR(255), MEMBER_PORT INT, " +
+                    "MEMBER_STATE CHAR(64), MEMBER_ROLE CHAR(64), MEMBER_VERSION CHAR(64), " +
+                    "MEMBER_COMMUNICATION_STACK VARCHAR(80))");
+            try (PreparedStatement ps = connection.prepareStatement(
+                    "INSERT INTO performance_schema.replication_group_members VALUES (?, ?, ?, ?, ?, ?, ?, ?)")) {
+                for (int id = 1; id <= members; id++) {
+                    ps.setString(1, "group_replication_applier");
+                    ps.setString(2, String.format("%08d-0000-0000-0000-000000000000", id));
+                    ps.setString(3, "node" + id);
+                    ps.setInt(4, 3306);
+                    ps.setString(5, "ONLINE");
+                    ps.setString(6, id == 1 ? "PRIMARY" : "SECONDARY");
+                    ps.setString(7, "8.0.36");
+                    ps.setString(8, "XCom");
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+            }
+        }
+        return url;
+    }
+
+    static MySQLServer server(String url) {
+        return new MySQLServer("1", "node", new ConnectionPool(url, USERNAME, PASSWORD));
+    }
+}
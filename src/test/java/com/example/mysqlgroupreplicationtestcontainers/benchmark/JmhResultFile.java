@@ -0,0 +1,27 @@
+package com.example.mysqlgroupreplicationtestcontainers.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Removes the path of the forked JVM from a JMH JSON result file before it is committed; it only names the directory
+ * the JDK happens to be installed in on the machine that ran the benchmarks. Run by the {@code benchmark} profile
+ * after JMH.
+ */
+public final class JmhResultFile {
+    private static final Pattern JVM_PATH = Pattern.compile("\\s*\"jvm\" : \".*\",");
+
+    private JmhResultFile() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path file = Path.of(args[0]);
+        List<String> lines = Files.readAllLines(file).stream()
+                .filter(line -> !JVM_PATH.matcher(line).matches())
+                .toList();
+        Files.write(file, lines);
+    }
+}
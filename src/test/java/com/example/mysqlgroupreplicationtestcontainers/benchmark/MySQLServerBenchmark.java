@@ -0,0 +1,54 @@
+package com.example.mysqlgroupreplicationtestcontainers.benchmark;
+
+import com.example.mysqlgroupreplicationtestcontainers.MySQLServer;
+import com.example.mysqlgroupreplicationtestcontainers.groupmember.GroupMember;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full client-side cost of the membership query as a health checker calls it: pool borrow, statement, round trip to
+ * the in-process stand-in and row mapping.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MySQLServerBenchmark {
+
+    @Param({"3", "9"})
+    int members;
+
+    private MySQLServer server;
+
+    @Setup
+    public void setUp() throws SQLException {
+        server = FakeGroup.server(FakeGroup.create("server" + members, members));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.getConnectionPool().close();
+    }
+
+    @Benchmark
+    public Map<String, GroupMember> replicationGroupMembers() throws SQLException {
+        return server.getPerformanceSchemaReplicationGroupMembers();
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.mysqlgroupreplicationtestcontainers.groupmember;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MembershipMonitorTest {
+
+	@Test
+	void newMemberIsReportedInItsState() {
+		GroupMember member = member("node1", MemberState.ONLINE, MemberRole.PRIMARY);
+
+		List<MembershipEvent> events = MembershipMonitor.diff(Map.of(), view(member));
+
+		assertEquals(List.of(new MembershipEvent(MembershipEvent.Type.ONLINE, "node1", null, member)), events);
+	}
+
+	@Test
+	void stateChangesMapToTheirEventType() {
+		GroupMember online = member("node2", MemberState.ONLINE, MemberRole.SECONDARY);
+		Map<MemberState, MembershipEvent.Type> expected = Map.of(
+				MemberState.RECOVERING, MembershipEvent.Type.RECOVERING,
+				MemberState.UNREACHABLE, MembershipEvent.Type.UNREACHABLE,
+				MemberState.OFFLINE, MembershipEvent.Type.OFFLINE,
+				MemberState.ERROR, MembershipEvent.Type.ERROR);
+
+		expected.forEach((state, type) -> {
+			GroupMember changed = member("node2", state, MemberRole.SECONDARY);
+			List<MembershipEvent> events = MembershipMonitor.diff(view(online), view(changed));
+			assertEquals(List.of(new MembershipEvent(type, "node2", online, changed)), events, state.name());
+		});
+
+		GroupMember recovering = member("node2", MemberState.RECOVERING, MemberRole.SECONDARY);
+		assertEquals(List.of(new MembershipEvent(MembershipEvent.Type.ONLINE, "node2", recovering, online)),
+				MembershipMonitor.diff(view(recovering), view(online)));
+	}
+
+	@Test
+	void missingMemberHasLeft() {
+		GroupMember primary = member("node1", MemberState.ONLINE, MemberRole.PRIMARY);
+		GroupMember secondary = member("node2", MemberState.ONLINE, MemberRole.SECONDARY);
+
+		List<MembershipEvent> events = MembershipMonitor.diff(view(primary, secondary), view(primary));
+
+		assertEquals(1, events.size());
+		MembershipEvent event = events.get(0);
+		assertEquals(MembershipEvent.Type.LEFT, event.type());
+		assertSame(secondary, event.previous());
+		assertNull(event.current());
+	}
+
+	@Test
+	void roleChangeIsReported() {
+		GroupMember secondary = member("node2", MemberState.ONLINE, MemberRole.SECONDARY);
+		GroupMember primary = member("node2", MemberState.ONLINE, MemberRole.PRIMARY);
+
+		List<MembershipEvent> events = MembershipMonitor.diff(view(secondary), view(primary));
+
+		assertEquals(List.of(new MembershipEvent(MembershipEvent.Type.ROLE_CHANGED, "node2", secondary, primary)),
+				events);
+	}
+
+	@Test
+	void unchangedViewHasNoEvents() {
+		GroupMember primary = member("node1", MemberState.ONLINE, MemberRole.PRIMARY);
+
+		assertTrue(MembershipMonitor.diff(view(primary), view(primary)).isEmpty());
+	}
+
+	@Test
+	void onlyOnlineSourcesAreTrustedForTheirView() {
+		GroupMember online = member("node1", MemberState.ONLINE, MemberRole.PRIMARY);
+		GroupMember expelled = member("node3", MemberState.ERROR, MemberRole.NONE);
+
+		assertTrue(MembershipMonitor.listsItselfOnline("node1", view(online, expelled)));
+		assertFalse(MembershipMonitor.listsItselfOnline("node3", view(online, expelled)));
+		assertFalse(MembershipMonitor.listsItselfOnline("node2", view(online, expelled)));
+	}
+
+	private static GroupMember member(String host, MemberState state, MemberRole role) {
+		return new GroupMember(host + "-uuid", "group_replication_applier", host, "3306", state, role, "8.0.36",
+				"XCom");
+	}
+
+	private static Map<String, GroupMember> view(GroupMember... members) {
+		Map<String, GroupMember> view = new LinkedHashMap<>();
+		for (GroupMember member : members) {
+			view.put(member.host(), member);
+		}
+		return view;
+	}
+}
@@ -0,0 +1,109 @@
+package com.example.mysqlgroupreplicationtestcontainers.gtid;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GtidSetTest {
+
+	private static final String A = "aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa";
+	private static final String B = "bbbbbbbb-bbbb-bbbb-bbbb-bbbbbbbbbbbb";
+
+	@Test
+	void parsesMySQLOutput() {
+		GtidSet gtids = GtidSet.parse(B + ":1-3,\n" + A.toUpperCase() + ":1-5:7:9-10");
+
+		assertEquals(A + ":1-5:7:9-10," + B + ":1-3", gtids.toString());
+		assertArrayEquals(new long[]{1, 5, 7, 7, 9, 10}, gtids.intervals(A));
+		assertEquals(11, gtids.count());
+	}
+
+	@Test
+	void emptyTextIsTheEmptySet() {
+		assertSame(GtidSet.EMPTY, GtidSet.parse(""));
+		assertSame(GtidSet.EMPTY, GtidSet.parse(" \n"));
+		assertEquals("", GtidSet.EMPTY.toString());
+	}
+
+	@Test
+	void normalizesUnorderedOverlappingAndAdjacentIntervals() {
+		GtidSet gtids = GtidSet.parse(A + ":9-12:1-3:4:2-5:14");
+
+		assertArrayEquals(new long[]{1, 5, 9, 12, 14, 14}, gtids.intervals(A));
+		assertEquals(GtidSet.parse(A + ":1-5:9-12:14"), gtids);
+	}
+
+	@Test
+	void keepsTaggedTransactionsApart() {
+		GtidSet gtids = GtidSet.parse(A + ":1-3:batch:1-2");
+
+		assertEquals(2, gtids.sources().size());
+		assertTrue(gtids.contains(A + ":batch", 2));
+		assertFalse(gtids.contains(A + ":batch", 3));
+		assertTrue(gtids.contains(A, 3));
+	}
+
+	@Test
+	void rejectsMalformedSets() {
+		assertThrows(IllegalArgumentException.class, () -> GtidSet.parse(A));
+		assertThrows(IllegalArgumentException.class, () -> GtidSet.parse(A + ":0-3"));
+		assertThrows(IllegalArgumentException.class, () -> GtidSet.parse(A + ":5-3"));
+		assertThrows(IllegalArgumentException.class, () -> GtidSet.parse(A + ":1-x"));
+		assertThrows(IllegalArgumentException.class, () -> GtidSet.parse(A + "::1"));
+	}
+
+	@Test
+	void union() {
+		GtidSet left = GtidSet.parse(A + ":1-5:10-12");
+		GtidSet right = GtidSet.parse(A + ":6-8:20," + B + ":1");
+
+		assertEquals(GtidSet.parse(A + ":1-8:10-12:20," + B + ":1"), left.union(right));
+		assertEquals(left.union(right), right.union(left));
+		assertSame(left, left.union(GtidSet.EMPTY));
+	}
+
+	@Test
+	void subtract() {
+		GtidSet executed = GtidSet.parse(A + ":1-100," + B + ":1-5");
+
+		assertEquals(GtidSet.parse(A + ":1-9:21-49:51-100"),
+				executed.subtract(GtidSet.parse(A + ":10-20:50," + B + ":1-5")));
+		assertEquals(GtidSet.parse(A + ":1-100," + B + ":4-5"), executed.subtract(GtidSet.parse(B + ":1-3:8")));
+		assertSame(GtidSet.EMPTY, executed.subtract(GtidSet.parse(A + ":1-200," + B + ":1-5")));
+		assertEquals(GtidSet.parse(A + ":1:3:5"), GtidSet.parse(A + ":1-5").subtract(GtidSet.parse(A + ":2:4")));
+	}
+
+	@Test
+	void contains() {
+		GtidSet executed = GtidSet.parse(A + ":1-10:20-30," + B + ":1-5");
+
+		assertTrue(executed.contains(GtidSet.parse(A + ":2-4:25," + B + ":5")));
+		assertTrue(executed.contains(GtidSet.EMPTY));
+		assertFalse(executed.contains(GtidSet.parse(A + ":9-21")));
+		assertFalse(executed.contains(GtidSet.parse(A + ":31")));
+		assertFalse(executed.contains(GtidSet.parse(B + ":6")));
+		assertTrue(executed.contains(A, 20));
+		assertFalse(executed.contains(A, 15));
+	}
+
+	@Test
+	void largeSetsStayExact() {
+		StringBuilder text = new StringBuilder(A);
+		for (long gno = 1; gno <= 20_000; gno += 2) {
+			text.append(':').append(gno);
+		}
+		GtidSet odd = GtidSet.parse(text.toString());
+		GtidSet all = GtidSet.parse(A + ":1-20000");
+
+		assertEquals(10_000, odd.count());
+		assertEquals(10_000, all.subtract(odd).count());
+		assertEquals(all, odd.union(all.subtract(odd)));
+		assertTrue(all.contains(odd));
+		assertFalse(odd.contains(all));
+	}
+}
@@ -0,0 +1,45 @@
+package com.example.mysqlgroupreplicationtestcontainers.load;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ConflictHotspotsTest {
+
+	private static final LoadProfile PROFILE = LoadProfile.of(1, Duration.ofSeconds(1))
+			.withConflicts(0.5, 100)
+			.withTables(2);
+
+	@Test
+	void splitsHotKeysIntoRangesPerTable() {
+		ConflictHotspots hotspots = new ConflictHotspots(PROFILE, 5);
+
+		List<ConflictHotspots.Range> ranges = hotspots.ranges();
+
+		assertEquals(10, ranges.size());
+		assertEquals(new ConflictHotspots.Range(LoadGenerator.table(1), 40, 49, 0, 0), ranges.get(9));
+	}
+
+	@Test
+	void countsEachRangeOncePerTransaction() {
+		ConflictHotspots hotspots = new ConflictHotspots(PROFILE, 5);
+		int first = hotspots.bucket(0, 3);
+		int second = hotspots.bucket(1, 45);
+
+		hotspots.record(new int[]{first, first, second}, 3, true);
+		hotspots.record(new int[]{first}, 1, false);
+
+		ConflictHotspots total = new ConflictHotspots(PROFILE, 5);
+		total.add(hotspots);
+		total.add(hotspots);
+		List<ConflictHotspots.Range> top = total.top(5);
+		assertEquals(2, top.size());
+		assertEquals(new ConflictHotspots.Range(LoadGenerator.table(0), 0, 9, 4, 2), top.get(0));
+		assertEquals(0.5, top.get(0).conflictRate());
+		assertEquals(Map.of(LoadGenerator.table(0), 2L, LoadGenerator.table(1), 2L), total.conflictsByTable());
+	}
+}
@@ -0,0 +1,59 @@
+package com.example.mysqlgroupreplicationtestcontainers.load;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KeyDistributionTest {
+
+	private static final int KEYS = 1000;
+	private static final int SAMPLES = 200_000;
+
+	@Test
+	void keysStayInRange() {
+		SplittableRandom random = new SplittableRandom(1);
+		for (KeyDistribution distribution : new KeyDistribution[]{KeyDistribution.uniform(KEYS),
+				KeyDistribution.zipfian(KEYS, 0), KeyDistribution.zipfian(KEYS, 0.99), KeyDistribution.zipfian(1, 0.5)}) {
+			for (int i = 0; i < SAMPLES; i++) {
+				int key = distribution.next(random);
+				assertTrue(key >= 0 && key < distribution.keys(), distribution + " returned " + key);
+			}
+		}
+	}
+
+	@Test
+	void skewConcentratesWritesOnTheLowestKeys() {
+		double uniform = shareOfFirstKeys(KeyDistribution.zipfian(KEYS, 0));
+		double moderate = shareOfFirstKeys(KeyDistribution.zipfian(KEYS, 0.5));
+		double heavy = shareOfFirstKeys(KeyDistribution.zipfian(KEYS, 0.99));
+
+		assertEquals(0.01, uniform, 0.005);
+		assertTrue(moderate > 2 * uniform, "theta 0.5: " + moderate);
+		assertTrue(heavy > 0.3, "theta 0.99: " + heavy);
+	}
+
+	@Test
+	void rejectsInvalidParameters() {
+		assertThrows(IllegalArgumentException.class, () -> KeyDistribution.uniform(0));
+		assertThrows(IllegalArgumentException.class, () -> KeyDistribution.zipfian(KEYS, 1));
+		assertThrows(IllegalArgumentException.class, () -> KeyDistribution.zipfian(KEYS, -0.1));
+	}
+
+	/**
+	 * Share of the samples that fell on the hottest 1% of the keys.
+	 */
+	private static double shareOfFirstKeys(KeyDistribution distribution) {
+		SplittableRandom random = new SplittableRandom(7);
+		int hits = 0;
+		for (int i = 0; i < SAMPLES; i++) {
+			if (distribution.next(random) < KEYS / 100) {
+				hits++;
+			}
+		}
+		return (double) hits / SAMPLES;
+	}
+}